@@ -0,0 +1,74 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.model.Employee;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic fixtures shared by the benchmarks
+ */
+final class BenchmarkData {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "Marketing", "Support"};
+    private static final String[] POSITIONS = {"Software Engineer", "Account Executive", "Analyst", "Manager"};
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private BenchmarkData() {
+    }
+
+    static Employee employee(long id) {
+        int i = (int) id;
+        return new Employee(id, "First" + i, "Last" + (i % 997), "employee" + i + "@company.com",
+                DEPARTMENTS[i % DEPARTMENTS.length], 3000.0 + (i % 5000), POSITIONS[i % POSITIONS.length]);
+    }
+
+    static List<Employee> employees(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+
+    static List<EmployeeResponseDTO> responses(int size) {
+        return new EmployeeMapper().toResponseDTOList(employees(size));
+    }
+
+    static EmployeeRequestDTO request(String email) {
+        return new EmployeeRequestDTO("John", "Doe", email, "Engineering", 5000.0, "Software Engineer");
+    }
+
+    /**
+     * Insert employees 1..size with plain JDBC batches; going through the service would also
+     * write the change feed outbox and take far longer for large tables
+     */
+    static void seed(JdbcTemplate jdbcTemplate, int size) {
+        String sql = "insert into employees (id, first_name, last_name, email, department, salary, position, version)"
+                + " values (?, ?, ?, ?, ?, ?, ?, 0)";
+        for (int offset = 1; offset <= size; offset += INSERT_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (long id = offset; id < offset + INSERT_BATCH_SIZE && id <= size; id++) {
+                Employee employee = employee(id);
+                batch.add(new Object[]{id, employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                        employee.getDepartment(), employee.getSalary(), employee.getPosition()});
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    /**
+     * Heap in use after a few full collections
+     */
+    static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
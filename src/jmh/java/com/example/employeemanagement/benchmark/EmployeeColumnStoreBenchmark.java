@@ -0,0 +1,156 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.columnar.EmployeeColumnStore;
+import com.example.employeemanagement.dto.EmployeeQuery;
+import com.example.employeemanagement.dto.EmployeeQueryResult;
+import com.example.employeemanagement.dto.EmployeeQuerySort;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.service.EmployeeQueryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter/sort/top-N queries over a 1M-row table answered by the columnar replica versus JPA.
+ * Every invocation shifts the salary range, as H2 would otherwise hand back the cached result of
+ * the previous identical query. Setup checks that both paths return the same results and prints
+ * the heap retained by the replica next to the same rows held as entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class EmployeeColumnStoreBenchmark {
+
+    private static final int QUERY_VARIANTS = 100;
+
+    @Param({"1000000"})
+    private int seededEmployees;
+
+    /**
+     * selective: a narrow salary band in two departments, ascending by salary;
+     * broad: most of the table, top 50 by salary
+     */
+    @Param({"selective", "broad"})
+    private String shape;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeQueryService employeeQueryService;
+    private final EmployeeQuery[] queries = new EmployeeQuery[QUERY_VARIANTS];
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:column-store-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--employee.columnar.enabled=true",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN");
+        employeeQueryService = context.getBean(EmployeeQueryService.class);
+        for (int i = 0; i < QUERY_VARIANTS; i++) {
+            queries[i] = "selective".equals(shape)
+                    ? new EmployeeQuery(7000.0 + i, 7100.0 + i, Set.of("Engineering", "Sales"), null,
+                    EmployeeQuerySort.SALARY, 100)
+                    : new EmployeeQuery(4000.0 + i, null, null, null, EmployeeQuerySort.SALARY_DESC, 50);
+        }
+
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), seededEmployees);
+        EmployeeColumnStore columnStore = context.getBean(EmployeeColumnStore.class);
+        long beforeLoad = BenchmarkData.usedHeap();
+        columnStore.load();
+        long columnarBytes = BenchmarkData.usedHeap() - beforeLoad;
+        long entityBytes = entityListBytes();
+        System.out.printf("%nHeap for %d employees: columnar replica %d MB, List<Employee> %d MB%n",
+                seededEmployees, columnarBytes >> 20, entityBytes >> 20);
+
+        for (EmployeeQuery query : queries) {
+            verifySameResult(query);
+        }
+        System.out.printf("Query '%s' matches about %d employees%n",
+                shape, employeeQueryService.queryDatabase(queries[0]).getTotalMatches());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeQueryResult columnar() {
+        return employeeQueryService.query(nextQuery());
+    }
+
+    @Benchmark
+    public EmployeeQueryResult jpa() {
+        return employeeQueryService.queryDatabase(nextQuery());
+    }
+
+    private EmployeeQuery nextQuery() {
+        EmployeeQuery query = queries[nextQuery];
+        nextQuery = (nextQuery + 1) % QUERY_VARIANTS;
+        return query;
+    }
+
+    // Built directly rather than read through JPA: the embedded H2 would hand out the very String
+    // instances it stores, hiding the cost of the strings every entity read from a real database owns
+    private long entityListBytes() {
+        long before = BenchmarkData.usedHeap();
+        List<Employee> employees = new ArrayList<>(seededEmployees);
+        for (long id = 1; id <= seededEmployees; id++) {
+            Employee employee = BenchmarkData.employee(id);
+            employee.setDepartment(new String(employee.getDepartment()));
+            employee.setPosition(new String(employee.getPosition()));
+            employee.setVersion(0L);
+            employees.add(employee);
+        }
+        long bytes = BenchmarkData.usedHeap() - before;
+        if (employees.size() != seededEmployees) {
+            throw new IllegalStateException("Built " + employees.size() + " entities");
+        }
+        return bytes;
+    }
+
+    private void verifySameResult(EmployeeQuery query) {
+        EmployeeQueryResult columnar = employeeQueryService.query(query);
+        EmployeeQueryResult jpa = employeeQueryService.queryDatabase(query);
+        if (columnar.getTotalMatches() != jpa.getTotalMatches() || !ids(columnar).equals(ids(jpa))) {
+            throw new IllegalStateException("Columnar and JPA results differ: " + columnar.getTotalMatches()
+                    + " " + ids(columnar) + " vs " + jpa.getTotalMatches() + " " + ids(jpa));
+        }
+    }
+
+    private static List<Long> ids(EmployeeQueryResult result) {
+        List<Long> ids = new ArrayList<>(result.getContent().size());
+        for (EmployeeResponseDTO employee : result.getContent()) {
+            ids.add(employee.getId());
+        }
+        return ids;
+    }
+}
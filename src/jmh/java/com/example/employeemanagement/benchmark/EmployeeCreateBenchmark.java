@@ -0,0 +1,94 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.email.EmailIndex;
+import com.example.employeemanagement.exception.DuplicateEmailException;
+import com.example.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Employee creation with and without the email filter in front of the uniqueness query.
+ * {@code createEmployee} uses a new email every time, the common case the filter answers alone;
+ * {@code createDuplicate} is rejected, which always needs the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+// The whole write path (entity, outbox, change listeners) needs a long warmup to reach steady state
+@Warmup(iterations = 15, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class EmployeeCreateBenchmark {
+
+    @Param({"100000"})
+    private int seededEmployees;
+
+    @Param({"true", "false"})
+    private boolean emailFilterEnabled;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:create-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN",
+                "--employee.email-filter.enabled=" + emailFilterEnabled);
+        employeeService = context.getBean(EmployeeService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkData.seed(jdbcTemplate, seededEmployees);
+        jdbcTemplate.execute("alter sequence employee_seq restart with " + (seededEmployees + 100));
+        // The filter was loaded from the empty table on startup
+        context.getBean(EmailIndex.class).load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO createEmployee() {
+        return employeeService.createEmployee(
+                BenchmarkData.request("bench" + emailSequence.incrementAndGet() + "@company.com"));
+    }
+
+    @Benchmark
+    public boolean createDuplicate() {
+        long id = 1 + emailSequence.incrementAndGet() % seededEmployees;
+        try {
+            employeeService.createEmployee(BenchmarkData.request(BenchmarkData.employee(id).getEmail()));
+            return false;
+        } catch (DuplicateEmailException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.email.EmailIndex;
+import com.example.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Many threads creating single employees at once, with and without group commit. Throughput
+ * mode gives creates per second, sample mode the latency percentiles each caller sees. With
+ * virtual threads enabled (Java 21 and later) every create also passes the database bulkhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(64)
+@Fork(1)
+public class EmployeeGroupCommitBenchmark {
+
+    @Param({"10000"})
+    private int seededEmployees;
+
+    @Param({"true", "false"})
+    private boolean groupCommitEnabled;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:group-commit-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN",
+                "--employee.group-commit.enabled=" + groupCommitEnabled,
+                "--spring.threads.virtual.enabled=" + virtualThreads);
+        employeeService = context.getBean(EmployeeService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkData.seed(jdbcTemplate, seededEmployees);
+        jdbcTemplate.execute("alter sequence employee_seq restart with " + (seededEmployees + 100));
+        context.getBean(EmailIndex.class).load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO createEmployee() {
+        return employeeService.createEmployee(
+                BenchmarkData.request("group" + emailSequence.incrementAndGet() + "@company.com"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.json.EmployeeJsonWriter;
+import com.example.employeemanagement.model.Employee;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson against the hand-written {@link EmployeeJsonWriter}, for a page of response DTOs and
+ * for NDJSON export rows written from entities. Every operation is one employee, so with
+ * {@code -prof gc} the {@code gc.alloc.rate.norm} column is bytes allocated per employee.
+ * Both sides write into a stream that only counts bytes; their output is compared once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonWriterBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private final CountingOutputStream out = new CountingOutputStream();
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+    private final EmployeeJsonWriter writer = new EmployeeJsonWriter();
+    private ObjectMapper objectMapper;
+    private List<Employee> employees;
+    private List<EmployeeResponseDTO> responses;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employees = BenchmarkData.employees(SIZE);
+        responses = BenchmarkData.responses(SIZE);
+        verifySameOutput();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long jacksonPage() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, responses);
+        return out.count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long writerPage() throws IOException {
+        out.reset();
+        writer.open(out);
+        writer.writeArray(responses);
+        writer.flush();
+        return out.count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long jacksonNdjson() throws IOException {
+        out.reset();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        for (Employee employee : employees) {
+            objectMapper.writeValue(generator, employeeMapper.toResponseDTO(employee));
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return out.count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long writerNdjson() throws IOException {
+        out.reset();
+        writer.open(out);
+        for (Employee employee : employees) {
+            writer.write(employee);
+            writer.writeNewline();
+        }
+        writer.flush();
+        return out.count;
+    }
+
+    private void verifySameOutput() throws IOException {
+        ByteArrayOutputStream jackson = new ByteArrayOutputStream();
+        objectMapper.writeValue(jackson, responses);
+        ByteArrayOutputStream handWritten = new ByteArrayOutputStream();
+        writer.open(handWritten);
+        writer.writeArray(responses);
+        writer.flush();
+        if (!Arrays.equals(jackson.toByteArray(), handWritten.toByteArray())) {
+            throw new IllegalStateException("EmployeeJsonWriter output differs from Jackson");
+        }
+        System.out.printf("%n%d employees: %d bytes%n", SIZE, handWritten.size());
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        void reset() {
+            count = 0;
+        }
+    }
+}
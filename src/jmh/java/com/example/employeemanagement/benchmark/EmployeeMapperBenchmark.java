@@ -0,0 +1,51 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private final EmployeeMapper mapper = new EmployeeMapper();
+    private List<Employee> employees;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        employees = BenchmarkData.employees(size);
+        employee = employees.get(0);
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(employee);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> toResponseDTOList() {
+        return mapper.toResponseDTOList(employees);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeeField;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeProjectionPage;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.service.EmployeeProjectionService;
+import com.example.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks every page of a 100k-row table with full entities versus a four-column projection.
+ * Run with {@code -prof gc} to compare bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EmployeeProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final Set<EmployeeField> FIELDS = EmployeeField.parse("id,firstName,lastName,department");
+
+    @Param({"100000"})
+    private int seededEmployees;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private EmployeeProjectionService employeeProjectionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:projection-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN");
+        employeeService = context.getBean(EmployeeService.class);
+        employeeProjectionService = context.getBean(EmployeeProjectionService.class);
+
+        for (int offset = 0; offset < seededEmployees; offset += PAGE_SIZE) {
+            List<EmployeeRequestDTO> batch = new ArrayList<>(PAGE_SIZE);
+            for (int i = offset; i < offset + PAGE_SIZE && i < seededEmployees; i++) {
+                batch.add(BenchmarkData.request("projection" + i + "@company.com"));
+            }
+            employeeService.createEmployees(batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void listAllFullEntities(Blackhole blackhole) {
+        String after = null;
+        do {
+            EmployeePage page = employeeService.getEmployees(after, PAGE_SIZE, EmployeeSortField.ID);
+            blackhole.consume(page.getContent());
+            after = page.getNextCursor();
+        } while (after != null);
+    }
+
+    @Benchmark
+    public void listAllProjected(Blackhole blackhole) {
+        String after = null;
+        do {
+            EmployeeProjectionPage page = employeeProjectionService.getEmployees(FIELDS, after, PAGE_SIZE, EmployeeSortField.ID);
+            blackhole.consume(page.getContent());
+            after = page.getNextCursor();
+        } while (after != null);
+    }
+}
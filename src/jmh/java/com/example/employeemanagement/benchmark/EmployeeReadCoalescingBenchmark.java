@@ -0,0 +1,102 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.service.EmployeeService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Many threads reading the same few keys with the cache off, the situation request coalescing
+ * is for. Prints the share of reads that joined a load already in flight.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class EmployeeReadCoalescingBenchmark {
+
+    private static final int HOT_IDS = 8;
+
+    @Param({"10000"})
+    private int seededEmployees;
+
+    @Param({"true", "false"})
+    private boolean coalescingEnabled;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:coalescing-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN",
+                "--employee.cache.enabled=false",
+                "--employee.coalescing.enabled=" + coalescingEnabled);
+        employeeService = context.getBean(EmployeeService.class);
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), seededEmployees);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MeterRegistry registry = context.getBean(MeterRegistry.class);
+        for (String read : new String[]{"employeeById", "employeeDepartmentPage"}) {
+            double leaders = count(registry, read, "leader");
+            double followers = count(registry, read, "follower");
+            if (leaders + followers > 0) {
+                System.out.printf("%n%s: %.0f reads, %.1f%% coalesced%n",
+                        read, leaders + followers, 100 * followers / (leaders + followers));
+            }
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO getHotEmployee() {
+        return employeeService.getEmployeeById(1 + sequence.incrementAndGet() % HOT_IDS);
+    }
+
+    @Benchmark
+    public EmployeePage getHotDepartmentPage() {
+        return employeeService.getEmployeesByDepartment("Engineering", null, 50, EmployeeSortField.LAST_NAME);
+    }
+
+    private static double count(MeterRegistry registry, String read, String role) {
+        FunctionCounter counter = registry.find("employee.coalescing.requests")
+                .tag("read", read).tag("role", role).functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+}
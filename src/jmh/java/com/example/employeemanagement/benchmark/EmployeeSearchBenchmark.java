@@ -0,0 +1,97 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.search.EmployeeSearchIndex;
+import com.example.employeemanagement.service.EmployeeSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead search over a 1M-row table, including the primary-key read of the returned page.
+ * Sample mode reports the latency distribution; compare p0.99 with the 5 ms budget.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class EmployeeSearchBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    // What a user types, from one-letter prefixes matching the whole table to multi-word queries
+    private static final String[] QUERIES = {
+            "e", "la", "last42", "first12345", "employee99", "com", "soft eng", "last1 first2",
+            "ana last9", "manager first777", "account exec", "first5 company"
+    };
+
+    @Param({"1000000"})
+    private int seededEmployees;
+
+    /**
+     * "mixed" cycles through all sample queries; anything else is searched on its own
+     */
+    @Param({"mixed"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeSearchService employeeSearchService;
+    private String[] queries;
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN");
+        employeeSearchService = context.getBean(EmployeeSearchService.class);
+        queries = "mixed".equals(query) ? QUERIES : new String[]{query};
+
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), seededEmployees);
+        long before = BenchmarkData.usedHeap();
+        long started = System.nanoTime();
+        context.getBean(EmployeeSearchIndex.class).load();
+        System.out.printf("%nIndexed %d employees in %d ms, %d MB of heap%n", seededEmployees,
+                (System.nanoTime() - started) / 1_000_000, (BenchmarkData.usedHeap() - before) >> 20);
+        for (String text : queries) {
+            System.out.printf("'%s' -> %s%n", text, employeeSearchService.search(text, null, PAGE_SIZE).getContent()
+                    .stream().map(employee -> employee.getId()).toList());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeePage search() {
+        String text = queries[nextQuery];
+        nextQuery = (nextQuery + 1) % queries.length;
+        return employeeSearchService.search(text, null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EmployeeService against an in-memory H2 database, without the web layer.
+ * SQL logging is switched off so the numbers reflect the service and the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private static final int SEED_BATCH = 1000;
+
+    @Param({"10000"})
+    private int seededEmployees;
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN",
+                "--employee.cache.enabled=" + cacheEnabled);
+        employeeService = context.getBean(EmployeeService.class);
+
+        for (int offset = 0; offset < seededEmployees; offset += SEED_BATCH) {
+            List<EmployeeRequestDTO> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = 0; i < SEED_BATCH && offset + i < seededEmployees; i++) {
+                EmployeeRequestDTO request = BenchmarkData.request("seed" + (offset + i) + "@company.com");
+                request.setDepartment((offset + i) % 2 == 0 ? "Engineering" : "Sales");
+                batch.add(request);
+            }
+            employeeService.createEmployees(batch);
+        }
+        maxId = employeeService.getEmployees(null, 1, EmployeeSortField.ID).getContent().get(0).getId()
+                + seededEmployees - 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO createEmployee() {
+        return employeeService.createEmployee(
+                BenchmarkData.request("bench" + emailSequence.incrementAndGet() + "@company.com"));
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO getEmployeeById() {
+        return employeeService.getEmployeeById(maxId - (emailSequence.incrementAndGet() % 100));
+    }
+
+    @Benchmark
+    public EmployeePage listFirstPage() {
+        return employeeService.getEmployees(null, 50, EmployeeSortField.ID);
+    }
+
+    @Benchmark
+    public EmployeePage listDepartmentPage() {
+        return employeeService.getEmployeesByDepartment("Engineering", null, 50, EmployeeSortField.LAST_NAME);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent reads and writes against one database and against 2 and 4 department shards.
+ * Creates and department pages touch one shard; the page over all employees asks every shard.
+ * Shards are separate in-memory databases in one JVM, so they share its CPUs: this measures
+ * the lock and pool contention sharding removes and the scatter-gather cost it adds, not the
+ * capacity that separate database servers would add.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(16)
+@Fork(1)
+public class EmployeeShardingBenchmark {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "Marketing", "Support",
+            "Legal", "Operations", "Research"};
+
+    @Param({"10000"})
+    private int seededEmployees;
+
+    // 1 runs without sharding
+    @Param({"1", "2", "4"})
+    private int shards;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:sharding-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.open-in-view=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN",
+                "--employee.sharding.enabled=" + (shards > 1),
+                "--employee.sharding.count=" + shards,
+                "--employee.sharding.url-template=jdbc:h2:mem:sharding-benchmark-{shard};DB_CLOSE_DELAY=-1");
+        employeeService = context.getBean(EmployeeService.class);
+
+        // Through the service, so that every employee lands on its department's shard
+        List<EmployeeRequestDTO> batch = new ArrayList<>(1000);
+        for (int i = 1; i <= seededEmployees; i++) {
+            batch.add(request("seed" + i + "@company.com", i));
+            if (batch.size() == 1000 || i == seededEmployees) {
+                employeeService.createEmployees(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO createEmployee() {
+        long i = emailSequence.incrementAndGet();
+        return employeeService.createEmployee(request("shard" + i + "@company.com", i));
+    }
+
+    @Benchmark
+    public EmployeePage departmentPage() {
+        String department = DEPARTMENTS[ThreadLocalRandom.current().nextInt(DEPARTMENTS.length)];
+        return employeeService.getEmployeesByDepartment(department, null, 50, EmployeeSortField.ID);
+    }
+
+    @Benchmark
+    public EmployeePage allEmployeesPage() {
+        return employeeService.getEmployees(null, 50, EmployeeSortField.LAST_NAME);
+    }
+
+    private static EmployeeRequestDTO request(String email, long i) {
+        return new EmployeeRequestDTO("First" + i, "Last" + (i % 997), email,
+                DEPARTMENTS[(int) (i % DEPARTMENTS.length)], 3000.0 + (i % 5000), "Software Engineer");
+    }
+}
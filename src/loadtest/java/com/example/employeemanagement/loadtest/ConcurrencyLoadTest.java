@@ -0,0 +1,199 @@
+package com.example.employeemanagement.loadtest;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.example.employeemanagement.service.EmployeeService;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares platform-thread and virtual-thread request execution under a closed-loop load of
+ * 1k/5k/10k concurrent connections. Each connection repeatedly fetches a random employee by id
+ * with the cache disabled, so every request blocks on JDBC.
+ *
+ * <p>Options: {@code --concurrency=1000,5000,10000 --duration=20s --modes=platform,virtual
+ * --employees=1000 --report=target/loadtest/concurrency.csv}
+ */
+public final class ConcurrencyLoadTest {
+
+    private ConcurrencyLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int[] concurrencyLevels = parseInts(options.getOrDefault("concurrency", "1000,5000,10000"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "20s"));
+        String[] modes = options.getOrDefault("modes", "platform,virtual").split(",");
+        int employees = Integer.parseInt(options.getOrDefault("employees", "1000"));
+        Path report = Path.of(options.getOrDefault("report", "target/loadtest/concurrency.csv"));
+
+        List<String> rows = new ArrayList<>();
+        for (String mode : modes) {
+            boolean virtual = "virtual".equals(mode);
+            if (virtual && Runtime.version().feature() < 21) {
+                System.out.println("Skipping virtual mode: requires Java 21+, running on " + Runtime.version());
+                continue;
+            }
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                seed(context.getBean(EmployeeService.class), employees);
+                for (int concurrency : concurrencyLevels) {
+                    String row = run(mode, port, concurrency, duration, employees);
+                    System.out.println(row);
+                    rows.add(row);
+                }
+            }
+        }
+        writeReport(report, rows);
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return SpringApplication.run(EmployeeManagementApplication.class,
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + System.nanoTime(),
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--employee.cache.enabled=false",
+                "--employee.db.bulkhead.acquire-timeout=30s",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeemanagement=WARN");
+    }
+
+    private static void seed(EmployeeService employeeService, int employees) {
+        List<EmployeeRequestDTO> batch = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            batch.add(new EmployeeRequestDTO("First" + i, "Last" + i, "load" + i + "@company.com",
+                    i % 2 == 0 ? "Engineering" : "Sales", 3000.0 + i, "Engineer"));
+            if (batch.size() == 1000 || i == employees - 1) {
+                employeeService.createEmployees(batch);
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    private static String run(String mode, int port, int concurrency, Duration duration, int employees)
+            throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(clientExecutor)
+                .build();
+        Recorder recorder = new Recorder(TimeUnit.MINUTES.toMicros(5), 3);
+        LongAdder errors = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder inFlight = new LongAdder();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            fire(client, port, employees, recorder, errors, running, inFlight);
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        long elapsedNanos = System.nanoTime() - start;
+        Histogram histogram = recorder.getIntervalHistogram();
+        awaitDrain(inFlight);
+        clientExecutor.shutdownNow();
+
+        double seconds = elapsedNanos / 1e9;
+        return String.format("%s,%d,%d,%.1f,%d,%.2f,%.2f,%.2f,%.2f", mode, concurrency,
+                histogram.getTotalCount(), histogram.getTotalCount() / seconds, errors.sum(),
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(95) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void fire(HttpClient client, int port, int employees, Recorder recorder, LongAdder errors,
+                             AtomicBoolean running, LongAdder inFlight) {
+        if (!running.get()) {
+            return;
+        }
+        long id = 1 + ThreadLocalRandom.current().nextInt(employees);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees/" + id))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long sent = System.nanoTime();
+        inFlight.increment();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            inFlight.decrement();
+            if (!running.get()) {
+                return;
+            }
+            if (failure != null || response.statusCode() != 200) {
+                errors.increment();
+            } else {
+                recorder.recordValue((System.nanoTime() - sent) / 1000);
+            }
+            fire(client, port, employees, recorder, errors, running, inFlight);
+        });
+    }
+
+    private static void awaitDrain(LongAdder inFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.sum() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private static void writeReport(Path report, List<String> rows) throws IOException {
+        Path parent = report.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+            writer.println("mode,concurrency,requests,throughputPerSec,errors,p50Ms,p95Ms,p99Ms,maxMs");
+            rows.forEach(writer::println);
+        }
+        System.out.println("Report written to " + report);
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    static int[] parseInts(String value) {
+        String[] parts = value.split(",");
+        int[] result = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Integer.parseInt(parts[i].trim());
+        }
+        return result;
+    }
+
+    static Duration parseDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+}
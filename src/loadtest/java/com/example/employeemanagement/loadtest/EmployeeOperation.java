@@ -0,0 +1,288 @@
+package com.example.employeemanagement.loadtest;
+
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * One request against an {@code EmployeeController} endpoint. {@link #request} draws its
+ * parameters from the seeded random source and returns {@code null} when the target has nothing
+ * left for it to work on, such as a delete with no disposable employees.
+ */
+enum EmployeeOperation {
+
+    LIST_PAGE("GET /", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            String sort = random.nextBoolean() ? "id" : random.nextBoolean() ? "lastName" : "department";
+            return get(target, "?limit=100&sort=" + sort);
+        }
+    },
+    LIST_PAGE_FIELDS("GET /?fields", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "?fields=id,firstName,lastName,department&limit=100");
+        }
+    },
+    EXPORT("GET /export", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "/export?format=" + (random.nextBoolean() ? "ndjson" : "csv"));
+        }
+
+        @Override
+        HttpResponse.BodyHandler<?> bodyHandler() {
+            return HttpResponse.BodyHandlers.discarding();
+        }
+    },
+    QUERY("GET /query", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            int minSalary = 40000 + random.nextInt(40000);
+            return get(target, "/query?minSalary=" + minSalary + "&maxSalary=" + (minSalary + 20000)
+                    + "&department=" + department(random) + "&sort=-salary&limit=100");
+        }
+    },
+    SEARCH("GET /search", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            String name = random.nextBoolean()
+                    ? LoadTarget.FIRST_NAMES[random.nextInt(LoadTarget.FIRST_NAMES.length)]
+                    : LoadTarget.LAST_NAMES[random.nextInt(LoadTarget.LAST_NAMES.length)];
+            return get(target, "/search?q=" + name.substring(0, 3 + random.nextInt(name.length() - 2)));
+        }
+    },
+    STATS("GET /stats", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "/stats");
+        }
+    },
+    DEPARTMENT_STATS("GET /stats/{department}", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "/stats/" + department(random));
+        }
+    },
+    CHANGES("GET /changes", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return HttpRequest.newBuilder(target.uri("/changes?since=0"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept", "text/event-stream")
+                    .GET()
+                    .build();
+        }
+
+        // The feed stays open: measured up to the response headers, then the connection is closed
+        @Override
+        HttpResponse.BodyHandler<?> bodyHandler() {
+            return HttpResponse.BodyHandlers.ofInputStream();
+        }
+
+        @Override
+        void onResponse(LoadTarget target, HttpResponse<?> response) {
+            try {
+                ((InputStream) response.body()).close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    },
+    GET_BY_ID("GET /{id}", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "/" + seededId(target, random));
+        }
+    },
+    GET_BY_ID_FIELDS("GET /{id}?fields", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "/" + seededId(target, random) + "?fields=id,firstName,lastName,email");
+        }
+    },
+    DEPARTMENT_PAGE("GET /department/{department}", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "/department/" + department(random) + "?limit=50&sort="
+                    + (random.nextBoolean() ? "id" : "lastName"));
+        }
+    },
+    DEPARTMENT_PAGE_FIELDS("GET /department/{department}?fields", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return get(target, "/department/" + department(random) + "?fields=id,lastName,salary&limit=200");
+        }
+    },
+    CREATE("POST /", 201) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            return send(target, "POST", "", "application/json", target.json(target.newEmployee(department(random))));
+        }
+
+        @Override
+        void onResponse(LoadTarget target, HttpResponse<?> response) {
+            target.disposableEmployees().add(readTree(target, response).get("id").asLong());
+        }
+    },
+    BULK_CREATE("POST /bulk", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            String department = target.newBulkDepartment();
+            List<EmployeeRequestDTO> employees = new ArrayList<>();
+            for (int i = 0; i < LoadTarget.BULK_DEPARTMENT_SIZE; i++) {
+                employees.add(target.newEmployee(department));
+            }
+            return send(target, "POST", "/bulk", "application/json", target.json(employees));
+        }
+
+        @Override
+        void onResponse(LoadTarget target, HttpResponse<?> response) {
+            JsonNode results = readTree(target, response).get("results");
+            target.bulkDepartments().add(results.get(0).get("employee").get("department").asText());
+        }
+    },
+    IMPORT("POST /import", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            StringBuilder csv = new StringBuilder("firstName,lastName,email,department,salary,position\n");
+            for (int i = 0; i < 10; i++) {
+                EmployeeRequestDTO employee = target.newEmployee(department(random));
+                csv.append(employee.getFirstName()).append(',').append(employee.getLastName()).append(',')
+                        .append(employee.getEmail()).append(',').append(employee.getDepartment()).append(',')
+                        .append(employee.getSalary()).append(',').append(employee.getPosition()).append('\n');
+            }
+            return send(target, "POST", "/import", "text/csv", csv.toString());
+        }
+
+        @Override
+        void onResponse(LoadTarget target, HttpResponse<?> response) {
+            target.importJobStarted(readTree(target, response).get("id").asLong());
+        }
+    },
+    IMPORT_STATUS("GET /import/{jobId}", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            long latest = target.latestImportJob();
+            return latest == 0 ? null : get(target, "/import/" + (1 + random.nextInt((int) latest)));
+        }
+    },
+    UPDATE("PUT /{id}", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            int index = random.nextInt(target.seededCount());
+            EmployeeRequestDTO employee = target.seededEmployee(index);
+            employee.setSalary(40000.0 + random.nextInt(80000));
+            return send(target, "PUT", "/" + target.seededId(index), "application/json", target.json(employee));
+        }
+    },
+    PATCH("PATCH /{id}", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            Map<String, Object> patch = Map.of("salary", 40000.0 + random.nextInt(80000));
+            return send(target, "PATCH", "/" + seededId(target, random), "application/merge-patch+json",
+                    target.json(patch));
+        }
+    },
+    UPDATE_DEPARTMENT("PATCH /?department", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            String department = target.bulkDepartments().peekLast();
+            if (department == null) {
+                return null;
+            }
+            EmployeeBulkUpdateDTO update = new EmployeeBulkUpdateDTO(null, null, null, 1.0 + random.nextInt(5));
+            return send(target, "PATCH", "?department=" + department, "application/json", target.json(update));
+        }
+    },
+    DELETE_DEPARTMENT("DELETE /?department", 200) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            String department = target.bulkDepartments().pollFirst();
+            return department == null ? null : send(target, "DELETE", "?department=" + department, null, null);
+        }
+    },
+    DELETE("DELETE /{id}", 204) {
+        @Override
+        HttpRequest request(LoadTarget target, Random random) {
+            Long id = target.disposableEmployees().pollFirst();
+            return id == null ? null : send(target, "DELETE", "/" + id, null, null);
+        }
+    };
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final String label;
+    private final int expectedStatus;
+
+    EmployeeOperation(String label, int expectedStatus) {
+        this.label = label;
+        this.expectedStatus = expectedStatus;
+    }
+
+    abstract HttpRequest request(LoadTarget target, Random random);
+
+    HttpResponse.BodyHandler<?> bodyHandler() {
+        return HttpResponse.BodyHandlers.ofString();
+    }
+
+    /**
+     * Called with every response that had the expected status
+     */
+    void onResponse(LoadTarget target, HttpResponse<?> response) {
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    private static HttpRequest get(LoadTarget target, String pathAndQuery) {
+        return HttpRequest.newBuilder(target.uri(pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest send(LoadTarget target, String method, String pathAndQuery, String contentType,
+                                    String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target.uri(pathAndQuery)).timeout(REQUEST_TIMEOUT);
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", contentType)
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static long seededId(LoadTarget target, Random random) {
+        return target.seededId(random.nextInt(target.seededCount()));
+    }
+
+    private static String department(Random random) {
+        return LoadTarget.DEPARTMENTS[random.nextInt(LoadTarget.DEPARTMENTS.length)];
+    }
+
+    private static JsonNode readTree(LoadTarget target, HttpResponse<?> response) {
+        try {
+            return target.objectMapper().readTree((String) response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.employeemanagement.loadtest;
+
+import com.example.employeemanagement.dto.BulkCreateResponseDTO;
+import com.example.employeemanagement.dto.BulkItemResultDTO;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.example.employeemanagement.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The application under load and the data the workloads draw on. The seeded employees are only
+ * read and updated in place, so reads always find them; deletes take employees and departments
+ * that were created for that purpose, during seeding or by earlier requests.
+ */
+final class LoadTarget {
+
+    static final String[] DEPARTMENTS =
+            {"Engineering", "Sales", "Marketing", "Finance", "Support", "Operations", "Legal", "Research"};
+    static final String[] POSITIONS = {"Engineer", "Manager", "Analyst", "Specialist", "Consultant", "Director"};
+    static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael",
+            "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Charles", "Karen"};
+    static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin"};
+    static final int BULK_DEPARTMENT_SIZE = 20;
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final String baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong uniqueIds = new AtomicLong();
+    private final AtomicLong latestImportJob = new AtomicLong();
+    private final Deque<Long> disposableEmployees = new ConcurrentLinkedDeque<>();
+    private final Deque<String> bulkDepartments = new ConcurrentLinkedDeque<>();
+    private long[] seededIds;
+
+    LoadTarget(int port) {
+        this.baseUri = "http://localhost:" + port + "/api/employees";
+    }
+
+    /**
+     * Create {@code employees} employees to read and update, one in ten of that to delete and
+     * {@code bulkDepartments} departments to update and delete as a whole
+     */
+    void seed(EmployeeService employeeService, int employees, int bulkDepartments) {
+        List<EmployeeRequestDTO> seeded = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            seeded.add(seededEmployee(i));
+        }
+        seededIds = createAll(employeeService, seeded);
+
+        List<EmployeeRequestDTO> disposable = new ArrayList<>();
+        for (int i = 0; i < employees / 10; i++) {
+            disposable.add(newEmployee(DEPARTMENTS[i % DEPARTMENTS.length]));
+        }
+        for (long id : createAll(employeeService, disposable)) {
+            disposableEmployees.add(id);
+        }
+
+        for (int i = 0; i < bulkDepartments; i++) {
+            String department = newBulkDepartment();
+            List<EmployeeRequestDTO> members = new ArrayList<>();
+            for (int j = 0; j < BULK_DEPARTMENT_SIZE; j++) {
+                members.add(newEmployee(department));
+            }
+            createAll(employeeService, members);
+            this.bulkDepartments.add(department);
+        }
+    }
+
+    int seededCount() {
+        return seededIds.length;
+    }
+
+    long seededId(int index) {
+        return seededIds[index];
+    }
+
+    /**
+     * The seeded employee as created, so updates can keep its email and department unchanged
+     */
+    EmployeeRequestDTO seededEmployee(int index) {
+        return new EmployeeRequestDTO(FIRST_NAMES[index % FIRST_NAMES.length],
+                LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length],
+                "employee" + index + "@loadtest.example",
+                DEPARTMENTS[index % DEPARTMENTS.length],
+                40000.0 + (index * 37L) % 80000,
+                POSITIONS[index % POSITIONS.length]);
+    }
+
+    /**
+     * A new employee with an email no other request uses
+     */
+    EmployeeRequestDTO newEmployee(String department) {
+        long n = uniqueIds.incrementAndGet();
+        return new EmployeeRequestDTO(FIRST_NAMES[(int) (n % FIRST_NAMES.length)],
+                LAST_NAMES[(int) (n % LAST_NAMES.length)],
+                "new" + n + "@loadtest.example",
+                department,
+                45000.0 + n % 50000,
+                POSITIONS[(int) (n % POSITIONS.length)]);
+    }
+
+    String newBulkDepartment() {
+        return "Bulk" + uniqueIds.incrementAndGet();
+    }
+
+    Deque<Long> disposableEmployees() {
+        return disposableEmployees;
+    }
+
+    Deque<String> bulkDepartments() {
+        return bulkDepartments;
+    }
+
+    long latestImportJob() {
+        return latestImportJob.get();
+    }
+
+    void importJobStarted(long jobId) {
+        latestImportJob.accumulateAndGet(jobId, Math::max);
+    }
+
+    URI uri(String pathAndQuery) {
+        return URI.create(baseUri + pathAndQuery);
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long[] createAll(EmployeeService employeeService, List<EmployeeRequestDTO> employees) {
+        long[] ids = new long[employees.size()];
+        int created = 0;
+        for (int from = 0; from < employees.size(); from += SEED_BATCH_SIZE) {
+            List<EmployeeRequestDTO> batch = employees.subList(from, Math.min(from + SEED_BATCH_SIZE, employees.size()));
+            BulkCreateResponseDTO response = employeeService.createEmployees(batch);
+            for (BulkItemResultDTO result : response.getResults()) {
+                if (result.getEmployee() == null) {
+                    throw new IllegalStateException("Seeding failed: " + result.getErrors());
+                }
+                ids[created++] = result.getEmployee().getId();
+            }
+        }
+        return ids;
+    }
+}
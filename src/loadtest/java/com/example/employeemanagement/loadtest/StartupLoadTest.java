@@ -0,0 +1,166 @@
+package com.example.employeemanagement.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the application in a fresh JVM again and again and measures how long it takes from
+ * launch until the first request is answered, and the resident memory at that point. Compares
+ * the default configuration with the prod profile, without and with the class data sharing
+ * archive. Each prod run reuses one data directory, so only the first migrates the schema.
+ * Needs the jar and archive of {@code mvn -Pcds package}; resident memory is read from /proc.
+ *
+ * <p>Options: {@code --runs=5 --jar=target/cds/employee-management-system-0.0.1-SNAPSHOT-cds.jar
+ * --archive=target/cds/application.jsa --jvm-args=-Xmx512m --timeout=120s
+ * --report=target/loadtest/startup.csv}
+ */
+public final class StartupLoadTest {
+
+    private static final String FIRST_REQUEST = "/api/employees?limit=1";
+
+    private StartupLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = ConcurrencyLoadTest.parseOptions(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path jar = Path.of(options.getOrDefault("jar", "target/cds/employee-management-system-0.0.1-SNAPSHOT-cds.jar"));
+        Path archive = Path.of(options.getOrDefault("archive", "target/cds/application.jsa"));
+        List<String> jvmArgs = Arrays.asList(options.getOrDefault("jvm-args", "-Xmx512m").split(" "));
+        Duration timeout = ConcurrencyLoadTest.parseDuration(options.getOrDefault("timeout", "120s"));
+        Path report = Path.of(options.getOrDefault("report", "target/loadtest/startup.csv"));
+        if (!Files.exists(jar) || !Files.exists(archive)) {
+            throw new IllegalStateException("Build " + jar + " and " + archive + " first: mvn -Pcds package -DskipTests");
+        }
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Path dataDirectory = Files.createTempDirectory("startup-loadtest");
+
+        List<String> rows = new ArrayList<>();
+        Path directory = jar.toAbsolutePath().getParent();
+        rows.add(measure("default", runs, timeout, directory, command(java, jvmArgs, List.of(), jar, List.of())));
+        List<String> prod = List.of("--spring.profiles.active=prod", "--employee.data-dir=" + dataDirectory);
+        rows.add(measure("prod", runs, timeout, directory, command(java, jvmArgs, List.of(), jar, prod)));
+        rows.add(measure("prod-cds", runs, timeout, directory, command(java, jvmArgs,
+                List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath(), "-Xshare:on"), jar, prod)));
+        writeReport(report, rows);
+    }
+
+    private static List<String> command(String java, List<String> jvmArgs, List<String> cdsArgs, Path jar,
+                                        List<String> applicationArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.addAll(cdsArgs);
+        command.add("-jar");
+        // Java 17 only maps the archive when the class path matches the recording, which ran next to the jar
+        command.add(jar.getFileName().toString());
+        command.addAll(applicationArgs);
+        return command;
+    }
+
+    private static String measure(String configuration, int runs, Duration timeout, Path directory,
+                                  List<String> command)
+            throws IOException, InterruptedException {
+        long[] startupMillis = new long[runs];
+        long[] rssKilobytes = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            int port = freePort();
+            List<String> runCommand = new ArrayList<>(command);
+            runCommand.add("--server.port=" + port);
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(runCommand)
+                    .directory(directory.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                awaitFirstResponse(process, port, start, timeout);
+                startupMillis[run] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                rssKilobytes[run] = residentKilobytes(process.pid());
+            } finally {
+                process.destroy();
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly().waitFor();
+                }
+            }
+            System.out.printf("%s run %d: first response after %d ms, RSS %d MB%n",
+                    configuration, run + 1, startupMillis[run], rssKilobytes[run] / 1024);
+        }
+        Arrays.sort(startupMillis);
+        Arrays.sort(rssKilobytes);
+        String row = String.join(",", configuration, String.valueOf(runs),
+                String.valueOf(startupMillis[runs / 2]), String.valueOf(startupMillis[0]),
+                String.valueOf(rssKilobytes[runs / 2] / 1024));
+        System.out.println(row);
+        return row;
+    }
+
+    private static void awaitFirstResponse(Process process, int port, long start, Duration timeout)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + FIRST_REQUEST))
+                .timeout(timeout)
+                .build();
+        long deadline = start + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No response within " + timeout);
+    }
+
+    // VmRSS from /proc, or -1 where there is none
+    private static long residentKilobytes(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void writeReport(Path report, List<String> rows) throws IOException {
+        Path parent = report.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+            writer.println("configuration,runs,medianFirstResponseMs,minFirstResponseMs,medianRssMb");
+            rows.forEach(writer::println);
+        }
+        System.out.println("Report written to " + report);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.employeemanagement.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static com.example.employeemanagement.loadtest.EmployeeOperation.*;
+
+/**
+ * A weighted mix of operations with its default arrival rate and SLOs. The defaults hold with
+ * headroom on a single-core machine; every value can be overridden on the command line.
+ */
+enum Workload {
+
+    READ_HEAVY("read-heavy", 100, Duration.ofMillis(100), Map.of(
+            GET_BY_ID, 40,
+            GET_BY_ID_FIELDS, 10,
+            DEPARTMENT_PAGE, 15,
+            DEPARTMENT_PAGE_FIELDS, 5,
+            SEARCH, 10,
+            STATS, 5,
+            DEPARTMENT_STATS, 5,
+            CREATE, 4,
+            UPDATE, 2,
+            PATCH, 4)),
+    WRITE_HEAVY("write-heavy", 60, Duration.ofMillis(150), Map.of(
+            CREATE, 20,
+            UPDATE, 10,
+            PATCH, 35,
+            DELETE, 10,
+            BULK_CREATE, 5,
+            UPDATE_DEPARTMENT, 5,
+            DELETE_DEPARTMENT, 3,
+            IMPORT, 2,
+            IMPORT_STATUS, 2,
+            GET_BY_ID, 8)),
+    LISTING("listing", 25, Duration.ofMillis(500), Map.of(
+            LIST_PAGE, 25,
+            LIST_PAGE_FIELDS, 10,
+            DEPARTMENT_PAGE_FIELDS, 20,
+            QUERY, 20,
+            STATS, 13,
+            EXPORT, 4,
+            CHANGES, 8));
+
+    private final String name;
+    private final double defaultRate;
+    private final Duration defaultP99;
+    private final EmployeeOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    Workload(String name, double defaultRate, Duration defaultP99, Map<EmployeeOperation, Integer> mix) {
+        this.name = name;
+        this.defaultRate = defaultRate;
+        this.defaultP99 = defaultP99;
+        // Enum order, so a given seed always draws the same sequence of operations
+        Map<EmployeeOperation, Integer> ordered = new EnumMap<>(mix);
+        this.operations = ordered.keySet().toArray(new EmployeeOperation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        int i = 0;
+        for (int weight : ordered.values()) {
+            total += weight;
+            cumulativeWeights[i++] = total;
+        }
+    }
+
+    EmployeeOperation next(Random random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    EmployeeOperation[] getOperations() {
+        return operations;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    double getDefaultRate() {
+        return defaultRate;
+    }
+
+    Duration getDefaultP99() {
+        return defaultP99;
+    }
+
+    static Workload fromName(String name) {
+        for (Workload workload : values()) {
+            if (workload.name.equals(name)) {
+                return workload;
+            }
+        }
+        throw new IllegalArgumentException("Unknown workload " + name);
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.employeemanagement.loadtest;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.service.EmployeeService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives mixed workloads against every {@code EmployeeController} endpoint with an open model:
+ * requests arrive at a fixed average rate (Poisson arrivals from a seeded random source) whether
+ * or not earlier ones have completed, and latency is measured from the scheduled arrival, so a
+ * stalled server shows up as latency rather than as fewer requests. Each workload boots a fresh
+ * application with a seeded in-memory H2, warms it up and then measures.
+ *
+ * <p>The run writes {@code workloads.csv} (one row per operation and workload), one
+ * {@code <workload>.hgrm} percentile distribution per workload and {@code slo.csv} to the report
+ * directory, and exits with status 1 when an SLO is missed. With {@code --baseline} pointing at
+ * the {@code workloads.csv} of an earlier run, the p99 and throughput changes are printed and
+ * written to {@code comparison.csv}.
+ *
+ * <p>Options: {@code --workloads=read-heavy,write-heavy,listing --duration=30s --warmup=30s
+ * --employees=10000 --bulk-departments=50 --seed=42 --max-in-flight=1000
+ * --report-dir=target/loadtest --baseline=path/to/workloads.csv}. Per workload:
+ * {@code --<workload>.rate=<requests/s> --<workload>.p99=<duration>
+ * --<workload>.throughput=<requests/s, default 90% of the rate> --<workload>.errors=<rate, default 0.001>}.
+ * Options starting with {@code app.} are passed on to the application, e.g.
+ * {@code --app.employee.cache.enabled=false}.
+ */
+public final class WorkloadLoadTest {
+
+    private static final String CSV_HEADER =
+            "workload,operation,targetRate,requests,throughputPerSec,errors,skipped,p50Ms,p90Ms,p99Ms,p999Ms,maxMs";
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int ERROR_SAMPLES = 5;
+
+    private WorkloadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = ConcurrencyLoadTest.parseOptions(args);
+        String[] workloadNames = options.getOrDefault("workloads", "read-heavy,write-heavy,listing").split(",");
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "30s"));
+        int employees = Integer.parseInt(options.getOrDefault("employees", "10000"));
+        int bulkDepartments = Integer.parseInt(options.getOrDefault("bulk-departments", "50"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "1000"));
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "target/loadtest"));
+        Files.createDirectories(reportDir);
+
+        List<String> rows = new ArrayList<>();
+        List<String> sloRows = new ArrayList<>();
+        List<String> missed = new ArrayList<>();
+        for (String workloadName : workloadNames) {
+            Workload workload = Workload.fromName(workloadName.trim());
+            double rate = Double.parseDouble(option(options, workload, "rate", String.valueOf(workload.getDefaultRate())));
+            WorkloadResult result;
+            try (ConfigurableApplicationContext context = start(options)) {
+                LoadTarget target = new LoadTarget(((WebServerApplicationContext) context).getWebServer().getPort());
+                target.seed(context.getBean(EmployeeService.class), employees, bulkDepartments);
+                result = run(workload, target, rate, warmup, duration, seed, maxInFlight);
+            }
+            rows.addAll(result.rows(rate));
+            writeHistogram(reportDir.resolve(workload.getName() + ".hgrm"), result.total());
+            for (String[] slo : result.evaluate(options, rate)) {
+                String row = String.join(",", slo);
+                System.out.println("SLO " + row);
+                sloRows.add(row);
+                if ("missed".equals(slo[4])) {
+                    missed.add(workload.getName() + " " + slo[1]);
+                }
+            }
+        }
+
+        Path report = reportDir.resolve("workloads.csv");
+        write(report, CSV_HEADER, rows);
+        write(reportDir.resolve("slo.csv"), "workload,slo,target,actual,result", sloRows);
+        System.out.println("Report written to " + report);
+        if (options.containsKey("baseline")) {
+            compare(Path.of(options.get("baseline")), rows, reportDir.resolve("comparison.csv"));
+        }
+        if (!missed.isEmpty()) {
+            System.out.println("SLOs missed: " + String.join(", ", missed));
+            System.exit(1);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Map<String, String> options) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + System.nanoTime());
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.example.employeemanagement", "WARN");
+        options.forEach((key, value) -> {
+            if (key.startsWith("app.")) {
+                properties.put(key.substring("app.".length()), value);
+            }
+        });
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return SpringApplication.run(EmployeeManagementApplication.class, args.toArray(new String[0]));
+    }
+
+    private static WorkloadResult run(Workload workload, LoadTarget target, double rate, Duration warmup,
+                                      Duration duration, long seed, int maxInFlight) throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(clientExecutor)
+                .build();
+        WorkloadResult result = new WorkloadResult(workload, duration);
+        Random random = new Random(seed);
+        LongAdder inFlight = new LongAdder();
+        AtomicInteger errorSamples = new AtomicInteger();
+
+        long meanGapNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        long scheduled = System.nanoTime();
+        while (true) {
+            scheduled += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            EmployeeOperation operation = workload.next(random);
+            OperationStats stats = scheduled >= measureStart ? result.stats(operation) : null;
+            HttpRequest request = operation.request(target, random);
+            if (request == null) {
+                if (stats != null) {
+                    stats.skipped.increment();
+                }
+                continue;
+            }
+            if (inFlight.sum() >= maxInFlight) {
+                // The server has fallen far behind; count the arrival as failed instead of queueing it
+                if (stats != null) {
+                    stats.errors.increment();
+                }
+                continue;
+            }
+            long intended = scheduled;
+            inFlight.increment();
+            client.sendAsync(request, operation.bodyHandler()).whenComplete((response, failure) -> {
+                long latencyMicros = (System.nanoTime() - intended) / 1000;
+                try {
+                    if (failure == null && response.statusCode() == operation.getExpectedStatus()) {
+                        operation.onResponse(target, response);
+                        if (stats != null) {
+                            stats.histogram.recordValue(Math.min(latencyMicros, HIGHEST_LATENCY_MICROS));
+                        }
+                    } else {
+                        if (stats != null) {
+                            stats.errors.increment();
+                        }
+                        if (errorSamples.incrementAndGet() <= ERROR_SAMPLES) {
+                            System.out.println(operation.getLabel() + " failed: "
+                                    + (failure != null ? failure : response.statusCode() + " " + response.body()));
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    if (stats != null) {
+                        stats.errors.increment();
+                    }
+                } finally {
+                    inFlight.decrement();
+                }
+            });
+        }
+        awaitDrain(inFlight);
+        clientExecutor.shutdownNow();
+        return result;
+    }
+
+    private static void awaitDrain(LongAdder inFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.sum() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private static String option(Map<String, String> options, Workload workload, String name, String defaultValue) {
+        return options.getOrDefault(workload.getName() + "." + name, defaultValue);
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static void write(Path file, String header, List<String> rows) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println(header);
+            rows.forEach(writer::println);
+        }
+    }
+
+    /**
+     * Print and write the p99 and throughput changes of every row also present in the baseline
+     */
+    private static void compare(Path baseline, List<String> rows, Path comparison) throws IOException {
+        Map<String, String[]> previous = new HashMap<>();
+        List<String> lines = Files.readAllLines(baseline);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            previous.put(columns[0] + "," + columns[1], columns);
+        }
+        List<String> changes = new ArrayList<>();
+        for (String row : rows) {
+            String[] columns = row.split(",");
+            String[] before = previous.get(columns[0] + "," + columns[1]);
+            if (before == null) {
+                continue;
+            }
+            String change = String.format("%s,%s,%s,%s,%s,%s,%s,%s", columns[0], columns[1],
+                    before[9], columns[9], percentChange(before[9], columns[9]),
+                    before[4], columns[4], percentChange(before[4], columns[4]));
+            System.out.println("Compared to baseline: " + change);
+            changes.add(change);
+        }
+        write(comparison, "workload,operation,baselineP99Ms,p99Ms,p99Change,baselineThroughputPerSec,"
+                + "throughputPerSec,throughputChange", changes);
+    }
+
+    private static String percentChange(String before, String after) {
+        double base = Double.parseDouble(before);
+        if (base == 0) {
+            return "n/a";
+        }
+        return String.format("%+.1f%%", (Double.parseDouble(after) - base) / base * 100);
+    }
+
+    private static final class OperationStats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+    }
+
+    private static final class WorkloadResult {
+
+        private final Workload workload;
+        private final Duration duration;
+        private final Map<EmployeeOperation, OperationStats> stats = new LinkedHashMap<>();
+
+        private WorkloadResult(Workload workload, Duration duration) {
+            this.workload = workload;
+            this.duration = duration;
+            for (EmployeeOperation operation : workload.getOperations()) {
+                stats.put(operation, new OperationStats());
+            }
+        }
+
+        private OperationStats stats(EmployeeOperation operation) {
+            return stats.get(operation);
+        }
+
+        private Histogram total() {
+            Histogram total = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+            stats.values().forEach(operationStats -> total.add(operationStats.histogram));
+            return total;
+        }
+
+        private long errors() {
+            return stats.values().stream().mapToLong(operationStats -> operationStats.errors.sum()).sum();
+        }
+
+        private long skipped() {
+            return stats.values().stream().mapToLong(operationStats -> operationStats.skipped.sum()).sum();
+        }
+
+        private List<String> rows(double rate) {
+            List<String> rows = new ArrayList<>();
+            for (Map.Entry<EmployeeOperation, OperationStats> entry : stats.entrySet()) {
+                OperationStats operationStats = entry.getValue();
+                rows.add(row(entry.getKey().getLabel(), "", operationStats.histogram,
+                        operationStats.errors.sum(), operationStats.skipped.sum()));
+            }
+            rows.add(row("all", String.format("%.1f", rate), total(), errors(), skipped()));
+            return rows;
+        }
+
+        private String row(String operation, String targetRate, Histogram histogram, long errors, long skipped) {
+            return String.format("%s,%s,%s,%d,%.1f,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f", workload.getName(), operation,
+                    targetRate, histogram.getTotalCount(), histogram.getTotalCount() / seconds(), errors, skipped,
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+
+        /**
+         * Rows of workload, SLO, target, actual and met/missed
+         */
+        private List<String[]> evaluate(Map<String, String> options, double rate) {
+            Histogram total = total();
+            Duration p99Target = DurationStyle.detectAndParse(
+                    option(options, workload, "p99", workload.getDefaultP99().toMillis() + "ms"));
+            double throughputTarget = Double.parseDouble(
+                    option(options, workload, "throughput", String.valueOf(rate * 0.9)));
+            double errorRateTarget = Double.parseDouble(option(options, workload, "errors", "0.001"));
+
+            double p99Millis = total.getValueAtPercentile(99) / 1000.0;
+            double throughput = total.getTotalCount() / seconds();
+            long attempts = total.getTotalCount() + errors();
+            double errorRate = attempts == 0 ? 0 : (double) errors() / attempts;
+
+            List<String[]> results = new ArrayList<>();
+            results.add(slo("p99Ms", p99Target.toMillis(), p99Millis, p99Millis <= p99Target.toMillis()));
+            results.add(slo("throughputPerSec", throughputTarget, throughput, throughput >= throughputTarget));
+            results.add(slo("errorRate", errorRateTarget, errorRate, errorRate <= errorRateTarget));
+            return results;
+        }
+
+        private String[] slo(String name, double target, double actual, boolean met) {
+            return new String[]{workload.getName(), name, String.format("%.4f", target),
+                    String.format("%.4f", actual), met ? "met" : "missed"};
+        }
+
+        private double seconds() {
+            return duration.toNanos() / 1e9;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.employeemanagement.cache;
+
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.datasource.ReadRouting;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache for employee lookups by id and department pages.
+ * Both caches use Caffeine's W-TinyLFU eviction with a size bound and a time-to-live.
+ * When disabled every lookup goes straight to the loader.
+ * <p>
+ * Entries are loaded from the primary database even when reads are routed to a replica: a load
+ * from a lagging replica could put a row back that a write has just evicted.
+ * <p>
+ * A load runs on the calling thread without holding any of Caffeine's locks; the cache only
+ * holds its pending result. Evictions run after commit, while the writer still holds its
+ * connection, so a load waiting for a connection under the lock of the entry being evicted
+ * would deadlock the pool once every connection belongs to such a writer. An eviction during a
+ * load drops the pending entry: callers already waiting get that load's result, later callers
+ * load again.
+ */
+@Component
+public class EmployeeCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final AsyncCache<Long, EmployeeResponseDTO> employeesById;
+    private final AsyncCache<DepartmentPageKey, EmployeePage> departmentPages;
+
+    public EmployeeCache(@Value("${employee.cache.enabled:true}") boolean enabled,
+                         @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${employee.cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.employeesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.departmentPages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public EmployeeResponseDTO getById(Long id, Function<Long, EmployeeResponseDTO> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return get(employeesById, id, () -> ReadRouting.onPrimary(() -> loader.apply(id)));
+    }
+
+    public EmployeePage getDepartmentPage(String department, String after, int limit, EmployeeSortField sortField,
+                                          Supplier<EmployeePage> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        DepartmentPageKey key = new DepartmentPageKey(department, after, limit, sortField);
+        return get(departmentPages, key, () -> ReadRouting.onPrimary(loader));
+    }
+
+    /**
+     * Evict one employee and every cached page of the given departments once the
+     * current transaction commits (immediately when there is no transaction)
+     */
+    public void evict(Long id, String... departments) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            if (id != null) {
+                employeesById.synchronous().invalidate(id);
+            }
+            for (String department : departments) {
+                if (department != null) {
+                    departmentPages.asMap().keySet().removeIf(key -> key.department.equals(department));
+                }
+            }
+        });
+    }
+
+    /**
+     * Evict everything cached for the given departments, after a statement changed an unknown
+     * set of their employees
+     */
+    public void evictDepartments(String... departments) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            for (String department : departments) {
+                if (department != null) {
+                    removeIf(employeesById, employee -> employee.getDepartment().equals(department));
+                    departmentPages.asMap().keySet().removeIf(key -> key.department.equals(department));
+                }
+            }
+        });
+    }
+
+    public CacheStats getEmployeesByIdStats() {
+        return employeesById.synchronous().stats();
+    }
+
+    public CacheStats getDepartmentPagesStats() {
+        return departmentPages.synchronous().stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, employeesById.synchronous(), "employeesById");
+        CaffeineCacheMetrics.monitor(registry, departmentPages.synchronous(), "employeeDepartmentPages");
+    }
+
+    private static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> cached = cache.get(key, (k, executor) -> load);
+        if (cached == load) {
+            try {
+                load.complete(loader.get());
+            } catch (RuntimeException | Error e) {
+                // Caffeine removes the failed entry
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Remove the entries whose value matches, and every entry still loading since its value is not known yet
+     */
+    private static <K, V> void removeIf(AsyncCache<K, V> cache, Predicate<V> predicate) {
+        cache.asMap().values().removeIf(value -> {
+            V loaded = value.isDone() && !value.isCompletedExceptionally() ? value.join() : null;
+            return loaded == null || predicate.test(loaded);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class DepartmentPageKey {
+        private final String department;
+        private final String after;
+        private final int limit;
+        private final EmployeeSortField sortField;
+
+        private DepartmentPageKey(String department, String after, int limit, EmployeeSortField sortField) {
+            this.department = department;
+            this.after = after;
+            this.limit = limit;
+            this.sortField = sortField;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DepartmentPageKey)) {
+                return false;
+            }
+            DepartmentPageKey that = (DepartmentPageKey) o;
+            return limit == that.limit
+                    && department.equals(that.department)
+                    && Objects.equals(after, that.after)
+                    && sortField == that.sortField;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(department, after, limit, sortField);
+        }
+    }
+}
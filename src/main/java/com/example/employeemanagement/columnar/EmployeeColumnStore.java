@@ -0,0 +1,105 @@
+package com.example.employeemanagement.columnar;
+
+import com.example.employeemanagement.dto.EmployeeQuery;
+import com.example.employeemanagement.dto.EmployeeQueryResult;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.replica.EmployeeSnapshot;
+import com.example.employeemanagement.replica.EmployeeTableReader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory columnar replica of the employee table for ad-hoc filter, sort and top-N queries.
+ * <p>
+ * The columns are an {@link EmployeeSnapshot}, rebuilt every refresh interval to discard drift.
+ * Queries scan fixed-size chunks of rows in parallel, each chunk keeping its own top-N, and merge
+ * the chunk results.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.columnar.enabled", havingValue = "true")
+public class EmployeeColumnStore implements MeterBinder {
+
+    private static final int SCAN_CHUNK_ROWS = 1 << 16;
+
+    private final EmployeeSnapshot<EmployeeColumns> columns;
+
+    public EmployeeColumnStore(EmployeeTableReader tableReader, TaskScheduler taskScheduler) {
+        this.columns = new EmployeeSnapshot<>("columnar replica", EmployeeColumns::new, tableReader, taskScheduler);
+    }
+
+    /**
+     * False until the first load has finished; queries should go to the database until then
+     */
+    public boolean isLoaded() {
+        return columns.isLoaded();
+    }
+
+    public EmployeeQueryResult query(EmployeeQuery query) {
+        return columns.read(snapshot -> {
+            EmployeeColumns.Filter filter = snapshot.filter(query);
+            RowHeap.RowOrder order = snapshot.order(query.getSort());
+            int rowCount = snapshot.rowCount();
+            int chunks = (rowCount + SCAN_CHUNK_ROWS - 1) / SCAN_CHUNK_ROWS;
+            IntStream chunkStream = IntStream.range(0, chunks);
+            if (chunks > 1) {
+                chunkStream = chunkStream.parallel();
+            }
+            RowHeap top = chunkStream
+                    .mapToObj(chunk -> snapshot.scan(chunk * SCAN_CHUNK_ROWS,
+                            Math.min(rowCount, (chunk + 1) * SCAN_CHUNK_ROWS),
+                            filter, query.getSort(), new RowHeap(query.getLimit(), order)))
+                    .reduce(RowHeap::merge)
+                    .orElseGet(() -> new RowHeap(query.getLimit(), order));
+
+            int[] rows = top.drainSorted();
+            List<EmployeeResponseDTO> content = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                content.add(snapshot.read(row));
+            }
+            return new EmployeeQueryResult(content, top.getMatched());
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        columns.apply(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        columns.load();
+    }
+
+    /**
+     * Rebuild the replica from the table to discard any drift
+     */
+    @Scheduled(initialDelayString = "${employee.columnar.refresh-interval:PT1H}",
+            fixedDelayString = "${employee.columnar.refresh-interval:PT1H}")
+    public void refresh() {
+        columns.load();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.columnar.rows", this, store -> store.columns.read(EmployeeColumns::size))
+                .description("Employees held by the columnar replica")
+                .register(registry);
+        Gauge.builder("employee.columnar.size", this, store -> store.columns.read(EmployeeColumns::footprintBytes))
+                .description("Estimated heap used by the columnar replica")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.employeemanagement.columnar;
+
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeQuery;
+import com.example.employeemanagement.dto.EmployeeQuerySort;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.replica.EmployeeView;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Column-oriented copy of the employee table: one primitive array per attribute, indexed by row.
+ * Department and position are dictionary codes, names and emails live in {@link StringColumn}s.
+ * Rows of deleted employees are recycled; until then their department code is
+ * {@link ValueDictionary#NONE}, which no filter matches. Not thread-safe.
+ */
+final class EmployeeColumns implements EmployeeView {
+
+    private static final int MIN_CAPACITY = 1024;
+    // Rows filtered per pass before the matches are offered to the heap; keeps the match buffer in L1
+    private static final int BLOCK_ROWS = 1024;
+
+    private final ValueDictionary departmentDictionary = new ValueDictionary();
+    private final ValueDictionary positionDictionary = new ValueDictionary();
+    private final StringColumn firstNames;
+    private final StringColumn lastNames;
+    private final StringColumn emails;
+    private final LongIntHashMap rowsById;
+    private long[] ids;
+    private long[] versions;
+    private double[] salaries;
+    private int[] departments;
+    private int[] positions;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+    private int rowCount;
+
+    EmployeeColumns(int expectedRows) {
+        int capacity = Math.max(MIN_CAPACITY, expectedRows + expectedRows / 8);
+        this.ids = new long[capacity];
+        this.versions = new long[capacity];
+        this.salaries = new double[capacity];
+        this.departments = new int[capacity];
+        this.positions = new int[capacity];
+        this.firstNames = new StringColumn(capacity, 8);
+        this.lastNames = new StringColumn(capacity, 8);
+        this.emails = new StringColumn(capacity, 24);
+        this.rowsById = new LongIntHashMap(expectedRows);
+    }
+
+    @Override
+    public int size() {
+        return rowsById.size();
+    }
+
+    /**
+     * Number of rows a scan has to visit, including free ones
+     */
+    int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public boolean upsert(EmployeeResponseDTO employee) {
+        long version = employee.getVersion() == null ? 0 : employee.getVersion();
+        int row = rowsById.get(employee.getId());
+        if (row == LongIntHashMap.MISSING) {
+            row = allocateRow();
+            ids[row] = employee.getId();
+            rowsById.put(employee.getId(), row);
+        } else if (versions[row] >= version) {
+            return false;
+        }
+        versions[row] = version;
+        salaries[row] = employee.getSalary();
+        departments[row] = departmentDictionary.encode(employee.getDepartment());
+        positions[row] = positionDictionary.encode(employee.getPosition());
+        firstNames.set(row, employee.getFirstName());
+        lastNames.set(row, employee.getLastName());
+        emails.set(row, employee.getEmail());
+        return true;
+    }
+
+    @Override
+    public boolean remove(long id) {
+        int row = rowsById.get(id);
+        if (row == LongIntHashMap.MISSING) {
+            return false;
+        }
+        rowsById.remove(id);
+        freeRow(row);
+        return true;
+    }
+
+    @Override
+    public void updateDepartment(String department, EmployeeBulkUpdateDTO update) {
+        int code = departmentDictionary.lookup(department);
+        if (code == ValueDictionary.NONE) {
+            return;
+        }
+        int newCode = update.getDepartment() == null ? code : departmentDictionary.encode(update.getDepartment());
+        int positionCode = update.getPosition() == null
+                ? ValueDictionary.NONE : positionDictionary.encode(update.getPosition());
+        Double salary = update.getSalary();
+        double salaryFactor = update.salaryFactor();
+        for (int row = 0; row < rowCount; row++) {
+            if (departments[row] == code) {
+                departments[row] = newCode;
+                if (positionCode != ValueDictionary.NONE) {
+                    positions[row] = positionCode;
+                }
+                salaries[row] = (salary == null ? salaries[row] : salary) * salaryFactor;
+                versions[row]++;
+            }
+        }
+    }
+
+    @Override
+    public void removeDepartment(String department) {
+        int code = departmentDictionary.lookup(department);
+        if (code == ValueDictionary.NONE) {
+            return;
+        }
+        for (int row = 0; row < rowCount; row++) {
+            if (departments[row] == code) {
+                rowsById.remove(ids[row]);
+                freeRow(row);
+            }
+        }
+    }
+
+    EmployeeResponseDTO read(int row) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO(ids[row], firstNames.get(row), lastNames.get(row),
+                emails.get(row), departmentDictionary.decode(departments[row]), salaries[row],
+                positionDictionary.decode(positions[row]));
+        employee.setVersion(versions[row]);
+        return employee;
+    }
+
+    /**
+     * Compile the filter of a query against the current dictionaries
+     */
+    Filter filter(EmployeeQuery query) {
+        return new Filter(
+                query.getMinSalary() == null ? Double.NEGATIVE_INFINITY : query.getMinSalary(),
+                query.getMaxSalary() == null ? Double.POSITIVE_INFINITY : query.getMaxSalary(),
+                mask(departmentDictionary, query.getDepartments()),
+                mask(positionDictionary, query.getPositions()));
+    }
+
+    RowHeap.RowOrder order(EmployeeQuerySort sort) {
+        switch (sort) {
+            case SALARY:
+                return (row, other) -> {
+                    int result = Double.compare(salaries[row], salaries[other]);
+                    return result != 0 ? result : Long.compare(ids[row], ids[other]);
+                };
+            case SALARY_DESC:
+                return (row, other) -> {
+                    int result = Double.compare(salaries[other], salaries[row]);
+                    return result != 0 ? result : Long.compare(ids[row], ids[other]);
+                };
+            default:
+                return (row, other) -> Long.compare(ids[row], ids[other]);
+        }
+    }
+
+    /**
+     * Offer every row in [from, to) that passes the filter to the heap. Once the heap is full,
+     * a salary order also narrows the salary range to rows that can still make the cut.
+     */
+    RowHeap scan(int from, int to, Filter filter, EmployeeQuerySort sort, RowHeap heap) {
+        int[] candidates = new int[BLOCK_ROWS];
+        double lower = filter.minSalary;
+        double upper = filter.maxSalary;
+        for (int start = from; start < to; start += BLOCK_ROWS) {
+            int count = filterBlock(start, Math.min(to, start + BLOCK_ROWS), filter, lower, upper, candidates, heap);
+            for (int i = 0; i < count; i++) {
+                heap.offer(candidates[i]);
+            }
+            if (heap.isFull()) {
+                if (sort == EmployeeQuerySort.SALARY) {
+                    upper = Math.min(upper, salaries[heap.peek()]);
+                } else if (sort == EmployeeQuerySort.SALARY_DESC) {
+                    lower = Math.max(lower, salaries[heap.peek()]);
+                }
+            }
+        }
+        return heap;
+    }
+
+    /**
+     * Drop the spare capacity of the string columns, e.g. after a bulk load
+     */
+    @Override
+    public void trimToSize() {
+        firstNames.trimToSize();
+        lastNames.trimToSize();
+        emails.trimToSize();
+    }
+
+    /**
+     * Estimated heap size of all columns and indexes
+     */
+    long footprintBytes() {
+        return ids.length * 8L + versions.length * 8L + salaries.length * 8L
+                + departments.length * 4L + positions.length * 4L + freeRows.length * 4L
+                + firstNames.footprintBytes() + lastNames.footprintBytes() + emails.footprintBytes()
+                + rowsById.footprintBytes()
+                + departmentDictionary.footprintBytes() + positionDictionary.footprintBytes();
+    }
+
+    // Branch-free: every row is written to the candidate buffer and the cursor only advances when it
+    // also lies within the narrowed range, so the loop is a straight run of loads and compares
+    // whatever the selectivity. Rows matching the query filter are counted separately.
+    private int filterBlock(int from, int to, Filter filter, double lower, double upper, int[] candidates,
+                            RowHeap heap) {
+        double[] salaries = this.salaries;
+        int[] departments = this.departments;
+        int[] positions = this.positions;
+        boolean[] departmentMask = filter.departmentMask;
+        boolean[] positionMask = filter.positionMask;
+        double min = filter.minSalary;
+        double max = filter.maxSalary;
+        int matched = 0;
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            double salary = salaries[row];
+            boolean match = departmentMask[departments[row]] & positionMask[positions[row]]
+                    & salary >= min & salary <= max;
+            candidates[count] = row;
+            matched += match ? 1 : 0;
+            count += match & salary >= lower & salary <= upper ? 1 : 0;
+        }
+        heap.addMatched(matched);
+        return count;
+    }
+
+    private static boolean[] mask(ValueDictionary dictionary, Set<String> values) {
+        boolean[] mask = new boolean[dictionary.size()];
+        if (values.isEmpty()) {
+            Arrays.fill(mask, 1, mask.length, true);
+        } else {
+            for (String value : values) {
+                mask[dictionary.lookup(value)] = true;
+            }
+            mask[ValueDictionary.NONE] = false;
+        }
+        return mask;
+    }
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (rowCount == ids.length) {
+            grow(ids.length + (ids.length >> 1));
+        }
+        return rowCount++;
+    }
+
+    private void freeRow(int row) {
+        ids[row] = 0;
+        versions[row] = 0;
+        salaries[row] = 0;
+        departments[row] = ValueDictionary.NONE;
+        positions[row] = ValueDictionary.NONE;
+        firstNames.clear(row);
+        lastNames.clear(row);
+        emails.clear(row);
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        departments = Arrays.copyOf(departments, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        firstNames.grow(capacity);
+        lastNames.grow(capacity);
+        emails.grow(capacity);
+    }
+
+    /**
+     * A query filter resolved to salary bounds and per-code membership masks
+     */
+    static final class Filter {
+
+        private final double minSalary;
+        private final double maxSalary;
+        private final boolean[] departmentMask;
+        private final boolean[] positionMask;
+
+        private Filter(double minSalary, double maxSalary, boolean[] departmentMask, boolean[] positionMask) {
+            this.minSalary = minSalary;
+            this.maxSalary = maxSalary;
+            this.departmentMask = departmentMask;
+            this.positionMask = positionMask;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.employeemanagement.columnar;
+
+/**
+ * Bounded heap keeping the first {@code limit} rows of a scan in a given order, with the last of
+ * them at the root so a row that does not make the cut is rejected with a single comparison.
+ * Also counts every row that matched the scan.
+ */
+final class RowHeap {
+
+    /**
+     * Total order over row numbers of the same {@link EmployeeColumns}
+     */
+    interface RowOrder {
+        int compare(int row, int otherRow);
+    }
+
+    private final int[] rows;
+    private final RowOrder order;
+    private int size;
+    private long matched;
+
+    RowHeap(int limit, RowOrder order) {
+        this.rows = new int[limit];
+        this.order = order;
+    }
+
+    void offer(int row) {
+        if (size < rows.length) {
+            rows[size] = row;
+            siftUp(size++);
+        } else if (order.compare(row, rows[0]) < 0) {
+            rows[0] = row;
+            siftDown(0);
+        }
+    }
+
+    boolean isFull() {
+        return size == rows.length;
+    }
+
+    /**
+     * The last of the kept rows; only valid when the heap is not empty
+     */
+    int peek() {
+        return rows[0];
+    }
+
+    void addMatched(long count) {
+        matched += count;
+    }
+
+    long getMatched() {
+        return matched;
+    }
+
+    RowHeap merge(RowHeap other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.rows[i]);
+        }
+        matched += other.matched;
+        return this;
+    }
+
+    /**
+     * Empty the heap into an array in ascending order
+     */
+    int[] drainSorted() {
+        int[] sorted = new int[size];
+        while (size > 0) {
+            sorted[size - 1] = rows[0];
+            rows[0] = rows[--size];
+            siftDown(0);
+        }
+        return sorted;
+    }
+
+    private void siftUp(int index) {
+        int row = rows[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (order.compare(row, rows[parent]) <= 0) {
+                break;
+            }
+            rows[index] = rows[parent];
+            index = parent;
+        }
+        rows[index] = row;
+    }
+
+    private void siftDown(int index) {
+        if (size == 0) {
+            return;
+        }
+        int row = rows[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && order.compare(rows[child + 1], rows[child]) > 0) {
+                child++;
+            }
+            if (order.compare(row, rows[child]) >= 0) {
+                break;
+            }
+            rows[index] = rows[child];
+            index = child;
+        }
+        rows[index] = row;
+    }
+}
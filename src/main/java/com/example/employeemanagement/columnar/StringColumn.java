@@ -0,0 +1,85 @@
+package com.example.employeemanagement.columnar;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * High-cardinality strings stored as UTF-8 bytes in one shared array, addressed by a per-row
+ * offset and length. Overwritten and cleared values leave garbage behind that is reclaimed by
+ * compacting the array once it makes up half of it.
+ */
+final class StringColumn {
+
+    private static final int MIN_COMPACTION_BYTES = 1 << 20;
+
+    private byte[] data;
+    private int dataSize;
+    private int garbage;
+    private int[] offsets;
+    private int[] lengths;
+
+    StringColumn(int capacity, int averageLength) {
+        this.data = new byte[Math.max(16, capacity * averageLength)];
+        this.offsets = new int[capacity];
+        this.lengths = new int[capacity];
+    }
+
+    void set(int row, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        garbage += lengths[row];
+        if (garbage >= MIN_COMPACTION_BYTES && garbage > dataSize / 2) {
+            lengths[row] = 0;
+            compact();
+        }
+        ensureData(bytes.length);
+        System.arraycopy(bytes, 0, data, dataSize, bytes.length);
+        offsets[row] = dataSize;
+        lengths[row] = bytes.length;
+        dataSize += bytes.length;
+    }
+
+    String get(int row) {
+        return new String(data, offsets[row], lengths[row], StandardCharsets.UTF_8);
+    }
+
+    void clear(int row) {
+        garbage += lengths[row];
+        offsets[row] = 0;
+        lengths[row] = 0;
+    }
+
+    void grow(int capacity) {
+        offsets = Arrays.copyOf(offsets, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+
+    void trimToSize() {
+        data = Arrays.copyOf(data, Math.max(16, dataSize));
+    }
+
+    long footprintBytes() {
+        return data.length + offsets.length * 4L + lengths.length * 4L;
+    }
+
+    private void ensureData(int length) {
+        if (dataSize + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length + (data.length >> 1), dataSize + length));
+        }
+    }
+
+    private void compact() {
+        byte[] compacted = new byte[Math.max(16, (dataSize - garbage) + ((dataSize - garbage) >> 1))];
+        int size = 0;
+        for (int row = 0; row < offsets.length; row++) {
+            int length = lengths[row];
+            if (length > 0) {
+                System.arraycopy(data, offsets[row], compacted, size, length);
+                offsets[row] = size;
+                size += length;
+            }
+        }
+        data = compacted;
+        dataSize = size;
+        garbage = 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.employeemanagement.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of a low-cardinality string column. Code 0 is reserved for free rows,
+ * real values are numbered from 1 in order of first appearance and never reused.
+ */
+final class ValueDictionary {
+
+    static final int NONE = 0;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[16];
+    private int size = 1;
+
+    int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        codes.put(value, size);
+        return size++;
+    }
+
+    /**
+     * @return the code of the value, or {@link #NONE} when it has never been encoded
+     */
+    int lookup(String value) {
+        Integer code = codes.get(value);
+        return code == null ? NONE : code;
+    }
+
+    String decode(int code) {
+        return values[code];
+    }
+
+    /**
+     * Number of codes in use, including the reserved one
+     */
+    int size() {
+        return size;
+    }
+
+    long footprintBytes() {
+        long bytes = values.length * 4L + codes.size() * 48L;
+        for (int code = 1; code < size; code++) {
+            bytes += 40 + values[code].length();
+        }
+        return bytes;
+    }
+}
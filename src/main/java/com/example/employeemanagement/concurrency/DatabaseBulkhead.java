@@ -0,0 +1,93 @@
+package com.example.employeemanagement.concurrency;
+
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds how many requests run service (and therefore JDBC) work at the same time when
+ * requests are served on virtual threads. The thread count is effectively unbounded in that
+ * mode, so the permits are sized to the connection pool instead: excess requests park cheaply
+ * here and are rejected with 503 after the acquire timeout, rather than piling up inside the pool.
+ * A call that waits for another thread to do its database work gives its permit up with
+ * {@link #releasePermit()}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseBulkhead {
+
+    // Nested service calls on the same thread reuse the permit of the outermost call
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    // Permit of the outermost call on this thread, until it is released
+    private static final ThreadLocal<Semaphore> HELD = new ThreadLocal<>();
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public DatabaseBulkhead(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConcurrency,
+                            @Value("${employee.db.bulkhead.acquire-timeout:5s}") Duration acquireTimeout,
+                            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+        Gauge.builder("employee.db.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Free database bulkhead permits")
+                .register(meterRegistry);
+        Gauge.builder("employee.db.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a database bulkhead permit")
+                .register(meterRegistry);
+    }
+
+    @Around("within(com.example.employeemanagement.service..*) && execution(public * *(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            return proceedNested(joinPoint, depth);
+        }
+        if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new ServiceUnavailableException("Database is saturated, please retry");
+        }
+        HELD.set(permits);
+        try {
+            return proceedNested(joinPoint, depth);
+        } finally {
+            releasePermit();
+        }
+    }
+
+    /**
+     * Give up the permit of the current service call for the rest of that call, for a caller that
+     * from now on only waits for work another thread does with its own connection, such as a
+     * group commit. Does nothing without a bulkhead or when the permit is already released.
+     */
+    public static void releasePermit() {
+        Semaphore held = HELD.get();
+        if (held != null) {
+            HELD.remove();
+            held.release();
+        }
+    }
+
+    private Object proceedNested(ProceedingJoinPoint joinPoint, int[] depth) throws Throwable {
+        depth[0]++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            depth[0]--;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.employeemanagement.concurrency;
+
+import com.example.employeemanagement.datasource.ReadRouting;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads of an employee or a department page into one database
+ * load. Unlike the cache nothing outlives the load: a read arriving after it finished loads
+ * again. Loads in flight when a change commits are forgotten, so reads arriving after the
+ * change do not share a result that may predate it. Reads inside a transaction are never
+ * shared, since they may see that transaction's uncommitted writes, and reads that must go to
+ * the primary database only share loads from the primary.
+ */
+@Component
+public class EmployeeReadCoalescer implements MeterBinder {
+
+    private final boolean enabled;
+    // Keys are (primary required, id) and (primary required, department, after, limit, sortField)
+    private final SingleFlight<List<Object>, EmployeeResponseDTO> employeesById;
+    private final SingleFlight<List<Object>, EmployeePage> departmentPages;
+
+    public EmployeeReadCoalescer(@Value("${employee.coalescing.enabled:true}") boolean enabled,
+                                 @Value("${employee.coalescing.max-wait:5s}") Duration maxWait) {
+        this.enabled = enabled;
+        this.employeesById = new SingleFlight<>("employeeById", maxWait);
+        this.departmentPages = new SingleFlight<>("employeeDepartmentPage", maxWait);
+    }
+
+    public EmployeeResponseDTO getById(Long id, Function<Long, EmployeeResponseDTO> loader) {
+        if (!isShareable()) {
+            return loader.apply(id);
+        }
+        return employeesById.execute(Arrays.asList(ReadRouting.isPrimaryRequired(), id), () -> loader.apply(id));
+    }
+
+    public EmployeePage getDepartmentPage(String department, String after, int limit, EmployeeSortField sortField,
+                                          Supplier<EmployeePage> loader) {
+        if (!isShareable()) {
+            return loader.get();
+        }
+        return departmentPages.execute(
+                Arrays.asList(ReadRouting.isPrimaryRequired(), department, after, limit, sortField), loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+                forgetDepartment(event.getCurrent().getDepartment());
+                break;
+            case UPDATED:
+                forgetEmployee(event.getEmployeeId());
+                forgetDepartment(event.getPrevious().getDepartment());
+                forgetDepartment(event.getCurrent().getDepartment());
+                break;
+            case DELETED:
+                forgetEmployee(event.getEmployeeId());
+                forgetDepartment(event.getPrevious().getDepartment());
+                break;
+            case BULK_UPDATED:
+                // The changed employees are not known individually
+                employeesById.forgetIf(key -> true);
+                forgetDepartment(event.getDepartment());
+                forgetDepartment(event.getBulkUpdate().getDepartment());
+                break;
+            case BULK_DELETED:
+                employeesById.forgetIf(key -> true);
+                forgetDepartment(event.getDepartment());
+                break;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        employeesById.bindTo(registry);
+        departmentPages.bindTo(registry);
+    }
+
+    private boolean isShareable() {
+        return enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void forgetEmployee(Long id) {
+        employeesById.forgetIf(key -> id.equals(key.get(1)));
+    }
+
+    private void forgetDepartment(String department) {
+        if (department != null) {
+            departmentPages.forgetIf(key -> department.equals(key.get(1)));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.employeemanagement.concurrency;
+
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Merges writes submitted concurrently into batches written by one writer thread, so that many
+ * callers share a transaction. A batch is started by the first waiting request and takes what
+ * else arrives within {@code maxDelay}, up to {@code maxBatchSize}; while a batch is being
+ * written the next one fills up, so under load batches grow without waiting.
+ * <p>
+ * The writer completes or fails each request of the batch. If it throws, the requests it left
+ * open are written again one at a time, so one bad request cannot fail the others.
+ */
+public class GroupCommit<T, R> {
+
+    private final Duration maxDelay;
+    private final int maxBatchSize;
+    private final Consumer<List<Request<T, R>>> writer;
+    private final BlockingQueue<Request<T, R>> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private final DistributionSummary batchSizes;
+    private final Counter singleRetries;
+    private volatile boolean running = true;
+
+    public GroupCommit(String name, Duration maxDelay, int maxBatchSize, Consumer<List<Request<T, R>>> writer,
+                       MeterRegistry meterRegistry) {
+        this.maxDelay = maxDelay;
+        this.maxBatchSize = maxBatchSize;
+        this.writer = writer;
+        this.batchSizes = DistributionSummary.builder("employee.group.commit.batch.size")
+                .description("Writes merged into one batch")
+                .tag("write", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.singleRetries = Counter.builder("employee.group.commit.single.retries")
+                .description("Writes retried on their own after their batch failed")
+                .tag("write", name)
+                .register(meterRegistry);
+        this.thread = new Thread(this::run, name + "-group-commit");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queue a write and wait until its batch has been written
+     */
+    public R submit(T value) {
+        Request<T, R> request = new Request<>(value);
+        queue.add(request);
+        if (!running && queue.remove(request)) {
+            throw new ServiceUnavailableException("Shutting down, please retry");
+        }
+        try {
+            return request.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stop taking writes; those still queued are rejected with 503
+     */
+    public void close() {
+        running = false;
+        thread.interrupt();
+        Request<T, R> request;
+        while ((request = queue.poll()) != null) {
+            request.fail(new ServiceUnavailableException("Shutting down, please retry"));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            List<Request<T, R>> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                return;
+            }
+            write(batch);
+        }
+    }
+
+    private List<Request<T, R>> nextBatch() throws InterruptedException {
+        List<Request<T, R>> batch = new ArrayList<>();
+        batch.add(queue.take());
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            Request<T, R> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+        return batch;
+    }
+
+    private void write(List<Request<T, R>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            writer.accept(batch);
+        } catch (RuntimeException | Error e) {
+            if (batch.size() == 1) {
+                batch.get(0).fail(e);
+                return;
+            }
+            for (Request<T, R> request : batch) {
+                if (!request.result.isDone()) {
+                    singleRetries.increment();
+                    writeAlone(request);
+                }
+            }
+        }
+        // A request the writer left open would otherwise wait forever; completed ones are unaffected
+        for (Request<T, R> request : batch) {
+            request.fail(new IllegalStateException("Write was neither completed nor failed"));
+        }
+    }
+
+    private void writeAlone(Request<T, R> request) {
+        try {
+            writer.accept(List.of(request));
+        } catch (RuntimeException | Error e) {
+            request.fail(e);
+        }
+    }
+
+    /**
+     * One submitted write. Complete it only once its batch is committed.
+     */
+    public static final class Request<T, R> {
+
+        private final T value;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+
+        private Request(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public void complete(R value) {
+            result.complete(value);
+        }
+
+        public void fail(Throwable failure) {
+            result.completeExceptionally(failure);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.employeemanagement.concurrency;
+
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time: callers arriving while a load for their key is in
+ * flight wait for it and share its result or exception instead of loading again.
+ * <p>
+ * The load runs on the thread of the first caller, the leader. Followers wait at most
+ * {@code maxWait} and are then rejected with 503. If the leader is interrupted its load is
+ * abandoned and one of the followers takes over. A forgotten key is loaded afresh by the next
+ * caller while the callers already waiting still get the result of the old load.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final Duration maxWait;
+    private final Map<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder led = new LongAdder();
+    private final LongAdder followed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public SingleFlight(String name, Duration maxWait) {
+        this.name = name;
+        this.maxWait = maxWait;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        while (true) {
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                led.increment();
+                return lead(key, flight, loader);
+            }
+            followed.increment();
+            try {
+                return existing.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (CancellationException e) {
+                // The leader was interrupted; retry, most likely as the new leader
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                timedOut.increment();
+                throw new ServiceUnavailableException("Timed out waiting for a concurrent read, please retry");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("Interrupted while waiting for a concurrent read");
+            }
+        }
+    }
+
+    /**
+     * Let the next caller for the matching keys start a new load
+     */
+    public void forgetIf(Predicate<K> predicate) {
+        flights.keySet().removeIf(predicate);
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        String description = "Reads by whether they ran the load or shared a concurrent one";
+        FunctionCounter.builder("employee.coalescing.requests", led, LongAdder::doubleValue)
+                .description(description).tag("read", name).tag("role", "leader").register(registry);
+        FunctionCounter.builder("employee.coalescing.requests", followed, LongAdder::doubleValue)
+                .description(description).tag("read", name).tag("role", "follower").register(registry);
+        FunctionCounter.builder("employee.coalescing.timeouts", timedOut, LongAdder::doubleValue)
+                .description("Followers rejected after waiting for a concurrent read")
+                .tag("read", name).register(registry);
+        Gauge.builder("employee.coalescing.in.flight", flights, Map::size)
+                .description("Loads currently shared by concurrent reads")
+                .tag("read", name).register(registry);
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            if (Thread.currentThread().isInterrupted()) {
+                flight.cancel(false);
+            } else {
+                flight.completeExceptionally(e);
+            }
+            throw e;
+        }
+        // Removed before completing, so no caller can pick up a finished result as if it were in flight
+        flights.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.json.EmployeeJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR and Smile as compact alternatives to JSON, selected with the Accept (or Content-Type) header.
+ * Both mappers come from Boot's Jackson builder, so they apply the same settings and annotations as
+ * the JSON mapper and every DTO has the same fields in all three formats. JSON stays the default.
+ * <p>
+ * Employee responses, the bulk of what is served, are written as JSON by a hand-written converter
+ * that produces the same bytes as Jackson with far less work per employee, unless the JSON mapper is
+ * customized (for example with {@code spring.jackson.*}) and Jackson has to write them.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public EmployeeJsonHttpMessageConverter employeeJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new EmployeeJsonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
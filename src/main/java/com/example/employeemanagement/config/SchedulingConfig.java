@@ -0,0 +1,10 @@
+package com.example.employeemanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Runs the change feed publisher and outbox cleanup
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,103 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.sharding.ShardDataSources;
+import com.example.employeemanagement.sharding.ShardRoutingDataSource;
+import com.example.employeemanagement.sharding.ShardedPooledOptimizer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Department sharding: employees are split across {@code employee.sharding.count} databases.
+ * Shard 0 is {@code spring.datasource.*}; the others use {@code employee.sharding.url-template}
+ * with {@code {shard}} replaced by their number and otherwise the same settings and pool size.
+ * Without {@code employee.sharding.enabled=true} Spring Boot's single data source is used unchanged.
+ * <p>
+ * A transaction's shard is taken from the thread when its first statement runs, so sessions must
+ * not outlive their transaction: this requires {@code spring.jpa.open-in-view=false}, and the
+ * read/write split of {@link DataSourceConfig} cannot be combined with it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    public ShardingConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView,
+                          @Value("${employee.datasource.read.enabled:false}") boolean readRouting) {
+        if (openInView) {
+            throw new IllegalStateException("employee.sharding.enabled requires spring.jpa.open-in-view=false");
+        }
+        if (readRouting) {
+            throw new IllegalStateException(
+                    "employee.sharding.enabled cannot be combined with employee.datasource.read.enabled");
+        }
+    }
+
+    @Bean
+    public ShardDataSources shardDataSources(DataSourceProperties properties, Environment environment,
+                                             @Value("${employee.sharding.count:2}") int count,
+                                             @Value("${employee.sharding.url-template}") String urlTemplate,
+                                             @Value("${employee.sharding.email-routes.pool-size:4}")
+                                             int emailRoutesPoolSize) {
+        if (count < 1) {
+            throw new IllegalArgumentException("employee.sharding.count must be at least 1");
+        }
+        List<HikariDataSource> dataSources = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            HikariDataSource dataSource = createPool(properties, environment, "shard-" + shard);
+            if (shard > 0) {
+                dataSource.setJdbcUrl(urlTemplate.replace("{shard}", Integer.toString(shard)));
+                // Shard 0 keeps the email routes: they would outlive the employees of a shard lost on restart
+                if (isInMemory(dataSource.getJdbcUrl()) && !isInMemory(dataSources.get(0).getJdbcUrl())) {
+                    throw new IllegalStateException("Shard " + shard + " (" + dataSource.getJdbcUrl()
+                            + ") is in memory but shard 0 is not; employee.sharding.url-template must be persistent too");
+                }
+            }
+            dataSources.add(dataSource);
+        }
+        HikariDataSource emailRoutes = createPool(properties, environment, "email-routes");
+        emailRoutes.setMaximumPoolSize(emailRoutesPoolSize);
+        return new ShardDataSources(dataSources, emailRoutes);
+    }
+
+    // As with the read/write split, the lazy proxy defers choosing the shard to the first statement
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDataSources.asList());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // Every shard has its own sequences, so blocks of ids are kept apart per shard
+    @Bean
+    public HibernatePropertiesCustomizer shardedIdOptimizerCustomizer() {
+        return properties -> properties.put("hibernate.id.optimizer.pooled.preferred",
+                ShardedPooledOptimizer.class.getName());
+    }
+
+    private static boolean isInMemory(String url) {
+        return url.startsWith("jdbc:h2:mem:");
+    }
+
+    // Shard 0's settings from spring.datasource.*
+    private static HikariDataSource createPool(DataSourceProperties properties, Environment environment,
+                                               String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.employeemanagement.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Beans from the packages in {@code employee.startup.lazy-packages} are created on first use
+ * instead of at startup. The prod profile defers the API docs this way, so that a new instance
+ * takes traffic sooner and only pays for the docs when someone opens them. Beans whose class is
+ * listed in {@code employee.startup.eager-classes} stay eager: a bean that only configures others
+ * while it is created, and is never requested itself, would otherwise never run.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("employee.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        List<String> eagerClasses = Binder.get(environment)
+                .bind("employee.startup.eager-classes", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (!definition.isLazyInit() && definition.isSingleton()
+                        && !eagerClasses.contains(definition.getBeanClassName())
+                        && isInPackages(beanFactory, definition, packages)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    // A bean matches by its own class, or for @Bean methods by the declaring class or the return type
+    private static boolean isInPackages(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition,
+                                        List<String> packages) {
+        if (isInPackages(definition.getBeanClassName(), packages)) {
+            return true;
+        }
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)
+                && isInPackages(beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName(), packages)) {
+            return true;
+        }
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            return factoryMethod != null && isInPackages(factoryMethod.getReturnTypeName(), packages);
+        }
+        return false;
+    }
+
+    private static boolean isInPackages(String className, List<String> packages) {
+        if (className == null) {
+            return false;
+        }
+        for (String packageName : packages) {
+            if (className.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
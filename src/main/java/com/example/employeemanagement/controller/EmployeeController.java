@@ -1,70 +1,399 @@
 package com.example.employeemanagement.controller;
 
+import com.example.employeemanagement.config.MessageConverterConfig;
+import com.example.employeemanagement.dto.BulkCreateResponseDTO;
+import com.example.employeemanagement.dto.BulkOperationResultDTO;
+import com.example.employeemanagement.dto.DepartmentStatsDTO;
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeChangeDTO;
+import com.example.employeemanagement.dto.EmployeeField;
+import com.example.employeemanagement.dto.EmployeeProjectionPage;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeePatchDTO;
+import com.example.employeemanagement.dto.EmployeeQuery;
+import com.example.employeemanagement.dto.EmployeeQueryResult;
+import com.example.employeemanagement.dto.EmployeeQuerySort;
 import com.example.employeemanagement.dto.EmployeeRequestDTO;
 import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.dto.ExportFormat;
+import com.example.employeemanagement.dto.ImportJobDTO;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.service.EmployeeChangeFeed;
+import com.example.employeemanagement.service.EmployeeExportService;
+import com.example.employeemanagement.service.EmployeeImportService;
+import com.example.employeemanagement.service.EmployeeProjectionService;
+import com.example.employeemanagement.service.EmployeeQueryService;
+import com.example.employeemanagement.service.EmployeeSearchService;
 import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.stats.DepartmentStatsAggregator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/employees")
 @Tag(name = "Employee Management", description = "Operations for managing employees")
 public class EmployeeController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    static final String SEARCH_TRUNCATED_HEADER = "X-Search-Truncated";
+
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeProjectionService employeeProjectionService;
+    private final EmployeeChangeFeed employeeChangeFeed;
+    private final EmployeeImportService employeeImportService;
+    private final DepartmentStatsAggregator departmentStatsAggregator;
+    private final EmployeeQueryService employeeQueryService;
+    private final EmployeeSearchService employeeSearchService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeExportService employeeExportService,
+                              EmployeeProjectionService employeeProjectionService,
+                              EmployeeChangeFeed employeeChangeFeed, EmployeeImportService employeeImportService,
+                              DepartmentStatsAggregator departmentStatsAggregator,
+                              EmployeeQueryService employeeQueryService,
+                              EmployeeSearchService employeeSearchService) {
         this.employeeService = employeeService;
+        this.employeeExportService = employeeExportService;
+        this.employeeProjectionService = employeeProjectionService;
+        this.employeeChangeFeed = employeeChangeFeed;
+        this.employeeImportService = employeeImportService;
+        this.departmentStatsAggregator = departmentStatsAggregator;
+        this.employeeQueryService = employeeQueryService;
+        this.employeeSearchService = employeeSearchService;
     }
 
     @GetMapping
-    @Operation(summary = "Get all employees", description = "Retrieve a list of all employees in the system")
+    @Operation(summary = "Get all employees",
+            description = "Retrieve one keyset page of employees. Pass the X-Next-Cursor value back as 'after' to fetch the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of employees",
+                    headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page; absent on the last page"),
+                    content = {
+                            @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MessageConverterConfig.APPLICATION_SMILE_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class)))}),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or sort field",
+                    content = @Content)
+    })
+    public ResponseEntity<List<EmployeeResponseDTO>> getAllEmployees(
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of employees to return (1-1000)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Sort order: id, lastName or department")
+            @RequestParam(defaultValue = "id") String sort) {
+        EmployeeSortField sortField = EmployeeSortField.fromParameter(sort);
+        return pageResponse(employeeService.getEmployees(after, limit, sortField));
+    }
+
+    @GetMapping(params = "fields")
+    @Operation(summary = "Get all employees (selected fields)",
+            description = "Retrieve one keyset page of employees containing only the fields listed in 'fields'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of employees",
+                    headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page; absent on the last page"),
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Unknown field, invalid cursor, limit or sort field",
+                    content = @Content)
+    })
+    public ResponseEntity<List<Map<String, Object>>> getAllEmployeeFields(
+            @Parameter(description = "Comma-separated fields to return, e.g. id,firstName,lastName,department", required = true)
+            @RequestParam String fields,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of employees to return (1-1000)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Sort order: id, lastName or department")
+            @RequestParam(defaultValue = "id") String sort) {
+        EmployeeProjectionPage page = employeeProjectionService.getEmployees(
+                EmployeeField.parse(fields), after, limit, EmployeeSortField.fromParameter(sort));
+        return pageResponse(page.getContent(), page.getNextCursor(), null, false);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all employees",
+            description = "Stream every employee as newline-delimited JSON or CSV, ordered by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Unsupported export format",
+                    content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @Parameter(description = "Export format: ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        StreamingResponseBody body = outputStream -> employeeExportService.exportEmployees(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/query")
+    @Operation(summary = "Query employees",
+            description = "Filter employees by salary range, departments and positions and return the first 'limit' "
+                    + "matches in the requested order. Served from the in-memory columnar replica when it is enabled")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "First matching employees",
+                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "Number of all matching employees"),
+                    content = {
+                            @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MessageConverterConfig.APPLICATION_SMILE_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class)))}),
+            @ApiResponse(responseCode = "400", description = "Invalid salary range, limit or sort",
+                    content = @Content)
+    })
+    public ResponseEntity<List<EmployeeResponseDTO>> queryEmployees(
+            @Parameter(description = "Lowest salary to include")
+            @RequestParam(required = false) Double minSalary,
+            @Parameter(description = "Highest salary to include")
+            @RequestParam(required = false) Double maxSalary,
+            @Parameter(description = "Departments to include; repeat for several")
+            @RequestParam(required = false) List<String> department,
+            @Parameter(description = "Positions to include; repeat for several")
+            @RequestParam(required = false) List<String> position,
+            @Parameter(description = "Sort order: id, salary or -salary")
+            @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Maximum number of employees to return (1-1000)")
+            @RequestParam(defaultValue = "50") int limit) {
+        EmployeeQuery query = new EmployeeQuery(minSalary, maxSalary,
+                department == null ? null : new HashSet<>(department),
+                position == null ? null : new HashSet<>(position),
+                EmployeeQuerySort.fromParameter(sort), limit);
+        EmployeeQueryResult result = employeeQueryService.query(query);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotalMatches()))
+                .body(result.getContent());
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search employees",
+            description = "Type-ahead search over first name, last name, email and position. Every word of 'q' must "
+                    + "be the start of a word in one of those fields; whole-word matches rank first, then matches in "
+                    + "last name, first name, email and position. Pass the X-Next-Cursor value back as 'after' to "
+                    + "fetch the next page. A multi-term query that gives up before finding every match answers "
+                    + "with X-Search-Truncated and no next cursor; add or lengthen terms to narrow it")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of employees",
+            @ApiResponse(responseCode = "200", description = "Page of matching employees, best matches first",
+                    headers = {
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page; absent on the last page"),
+                            @Header(name = SEARCH_TRUNCATED_HEADER,
+                                    description = "'true' when the search stopped early and matches may be missing")},
+                    content = {
+                            @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MessageConverterConfig.APPLICATION_SMILE_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class)))}),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Blank query, invalid cursor or limit",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Search index is still loading",
+                    content = @Content)
+    })
+    public ResponseEntity<List<EmployeeResponseDTO>> searchEmployees(
+            @Parameter(description = "Search text, e.g. 'jo do' or 'john.doe@'", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of employees to return (1-100)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return pageResponse(employeeSearchService.search(q, after, limit));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get salary statistics of all departments",
+            description = "Headcount, total, average, min, max and percentile salaries per department, "
+                    + "served from incrementally maintained aggregates")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics of every department with employees",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = EmployeeResponseDTO.class)))
+                            array = @ArraySchema(schema = @Schema(implementation = DepartmentStatsDTO.class))))
     })
-    public ResponseEntity<List<EmployeeResponseDTO>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<List<DepartmentStatsDTO>> getDepartmentStats() {
+        return ResponseEntity.ok(departmentStatsAggregator.getAllStats());
+    }
+
+    @GetMapping("/stats/{department}")
+    @Operation(summary = "Get salary statistics of a department",
+            description = "Headcount, total, average, min, max and percentile salaries of one department")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Department statistics",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DepartmentStatsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Department has no employees",
+                    content = @Content)
+    })
+    public ResponseEntity<DepartmentStatsDTO> getDepartmentStats(
+            @Parameter(description = "Department name", required = true)
+            @PathVariable String department) {
+        DepartmentStatsDTO stats = departmentStatsAggregator.getStats(department);
+        if (stats == null) {
+            throw new ResourceNotFoundException("No employees in department: " + department);
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow employee changes",
+            description = "Server-Sent Events feed of employee changes. Each 'changes' event carries a JSON array of "
+                    + "changes and the offset of the last one as its id; reconnect with that offset as 'since' "
+                    + "(or Last-Event-ID) to resume. A 'reset' event means changes after 'since' have expired and "
+                    + "the client should reload; a 'dropped' event means the client fell too far behind")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Change feed opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeChangeDTO.class))))
+    })
+    public SseEmitter followChanges(
+            @Parameter(description = "Offset of the last change already seen; 0 replays all retained changes")
+            @RequestParam(required = false) Long since,
+            @Parameter(hidden = true)
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long offset = since != null ? since : lastEventId != null ? lastEventId : 0L;
+        if (offset < 0) {
+            throw new BadRequestException("since must not be negative");
+        }
+        return employeeChangeFeed.subscribe(offset);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get employee by ID", description = "Retrieve a specific employee by their ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee found",
-                    content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                    content = {
+                            @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeResponseDTO.class)),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    schema = @Schema(implementation = EmployeeResponseDTO.class)),
+                            @Content(mediaType = MessageConverterConfig.APPLICATION_SMILE_VALUE,
+                                    schema = @Schema(implementation = EmployeeResponseDTO.class))}),
+            @ApiResponse(responseCode = "304", description = "Employee unchanged since the ETag in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Employee not found",
                     content = @Content)
     })
     public ResponseEntity<EmployeeResponseDTO> getEmployeeById(
             @Parameter(description = "ID of the employee to retrieve", required = true)
             @PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+        EmployeeResponseDTO employee = employeeService.getEmployeeById(id);
+        // EmployeeETagAdvice sets the ETag and answers a matching If-None-Match with 304
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(employee);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Get employee by ID (selected fields)",
+            description = "Retrieve a specific employee containing only the fields listed in 'fields'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee found",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Unknown field",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Employee not found",
+                    content = @Content)
+    })
+    public ResponseEntity<Map<String, Object>> getEmployeeFieldsById(
+            @Parameter(description = "ID of the employee to retrieve", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,firstName,lastName,department", required = true)
+            @RequestParam String fields) {
+        return ResponseEntity.ok(employeeProjectionService.getEmployeeById(id, EmployeeField.parse(fields)));
     }
 
     @GetMapping("/department/{department}")
-    @Operation(summary = "Get employees by department", description = "Retrieve all employees belonging to a specific department")
+    @Operation(summary = "Get employees by department",
+            description = "Retrieve one keyset page of the employees belonging to a specific department")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved employees by department",
-                    content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = EmployeeResponseDTO.class)))
+                    headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page; absent on the last page"),
+                    content = {
+                            @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class))),
+                            @Content(mediaType = MessageConverterConfig.APPLICATION_SMILE_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeResponseDTO.class)))}),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or sort field",
+                    content = @Content)
     })
     public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByDepartment(
             @Parameter(description = "Department name to filter employees", required = true)
-            @PathVariable String department) {
-        return ResponseEntity.ok(employeeService.getEmployeesByDepartment(department));
+            @PathVariable String department,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of employees to return (1-1000)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Sort order: id or lastName")
+            @RequestParam(defaultValue = "id") String sort) {
+        EmployeeSortField sortField = EmployeeSortField.fromParameter(sort);
+        return pageResponse(employeeService.getEmployeesByDepartment(department, after, limit, sortField));
+    }
+
+    @GetMapping(value = "/department/{department}", params = "fields")
+    @Operation(summary = "Get employees by department (selected fields)",
+            description = "Retrieve one keyset page of a department's employees containing only the fields listed in 'fields'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved employees by department",
+                    headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page; absent on the last page"),
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Unknown field, invalid cursor, limit or sort field",
+                    content = @Content)
+    })
+    public ResponseEntity<List<Map<String, Object>>> getEmployeeFieldsByDepartment(
+            @Parameter(description = "Department name to filter employees", required = true)
+            @PathVariable String department,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,firstName,lastName", required = true)
+            @RequestParam String fields,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of employees to return (1-1000)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Sort order: id or lastName")
+            @RequestParam(defaultValue = "id") String sort) {
+        EmployeeProjectionPage page = employeeProjectionService.getEmployeesByDepartment(
+                EmployeeField.parse(fields), department, after, limit, EmployeeSortField.fromParameter(sort));
+        return pageResponse(page.getContent(), page.getNextCursor(), null, false);
     }
 
     @PostMapping
@@ -81,7 +410,76 @@ public class EmployeeController {
     public ResponseEntity<EmployeeResponseDTO> createEmployee(
             @Parameter(description = "Employee data to create", required = true)
             @Valid @RequestBody EmployeeRequestDTO employeeRequestDTO) {
-        return new ResponseEntity<>(employeeService.createEmployee(employeeRequestDTO), HttpStatus.CREATED);
+        EmployeeResponseDTO employee = employeeService.createEmployee(employeeRequestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(employee);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Import employees",
+            description = "Stream a CSV (with header) or NDJSON upload into the employee table in batched transactions. "
+                    + "Invalid rows are skipped and reported. If the import is interrupted, upload the same file "
+                    + "again with 'jobId' to continue after the last committed chunk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload processed; check status and errors",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ImportJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing CSV columns, or the job cannot be resumed",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Import job not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Import job is already running",
+                    content = @Content)
+    })
+    public ResponseEntity<ImportJobDTO> importEmployees(
+            @Parameter(hidden = true)
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @Parameter(description = "Id of an interrupted import job to resume")
+            @RequestParam(required = false) Long jobId,
+            @Parameter(hidden = true) InputStream body) throws IOException {
+        ExportFormat format = MediaType.parseMediaType(ExportFormat.CSV.getContentType()).includes(contentType)
+                ? ExportFormat.CSV
+                : ExportFormat.NDJSON;
+        ImportJobDTO job = employeeImportService.importEmployees(format, body, jobId);
+        return ResponseEntity.ok()
+                .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                        .path("/{jobId}").replaceQuery(null).buildAndExpand(job.getId()).toUri())
+                .body(job);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Get import progress",
+            description = "Progress counters of an import job and its first rejected rows")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ImportJobDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Import job not found",
+                    content = @Content)
+    })
+    public ResponseEntity<ImportJobDTO> getImportJob(
+            @Parameter(description = "ID of the import job", required = true)
+            @PathVariable Long jobId) {
+        return ResponseEntity.ok(employeeImportService.getImportJob(jobId));
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Create employees in bulk",
+            description = "Add many employees in one transaction. Each item is validated on its own and reported in the per-item results")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk request processed; see per-item results",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkCreateResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized request",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "An email was taken by a concurrent request; nothing was created",
+                    content = @Content)
+    })
+    public ResponseEntity<BulkCreateResponseDTO> createEmployees(
+            @Parameter(description = "Employees to create", required = true)
+            @RequestBody List<EmployeeRequestDTO> employeeRequestDTOs) {
+        return ResponseEntity.ok(employeeService.createEmployees(employeeRequestDTOs));
     }
 
     @PutMapping("/{id}")
@@ -94,15 +492,85 @@ public class EmployeeController {
                     content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data",
                     content = @Content),
-            @ApiResponse(responseCode = "409", description = "Email already exists",
+            @ApiResponse(responseCode = "409", description = "Email already exists, or the employee was modified concurrently",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "Employee changed since the ETag in If-Match",
                     content = @Content)
     })
     public ResponseEntity<EmployeeResponseDTO> updateEmployee(
             @Parameter(description = "ID of the employee to update", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag of the version being updated; the update is rejected if the employee changed")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Updated employee data", required = true)
             @Valid @RequestBody EmployeeRequestDTO employeeRequestDTO) {
-        return ResponseEntity.ok(employeeService.updateEmployee(id, employeeRequestDTO));
+        Long expectedVersion = EmployeeETags.expectedVersion(ifMatch, id);
+        EmployeeResponseDTO employee = employeeService.updateEmployee(id, employeeRequestDTO, expectedVersion);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(employee);
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update an employee",
+            description = "Change only the given fields of an employee, as a JSON Merge Patch (application/merge-patch+json)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Employee not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid, removed or unknown fields",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Email already exists, or the employee was modified concurrently",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "Employee changed since the ETag in If-Match",
+                    content = @Content)
+    })
+    public ResponseEntity<EmployeeResponseDTO> patchEmployee(
+            @Parameter(description = "ID of the employee to update", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "ETag of the version being updated; the update is rejected if the employee changed")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "Fields to change; omitted fields are left unchanged", required = true)
+            @RequestBody EmployeePatchDTO employeePatchDTO) {
+        Long expectedVersion = EmployeeETags.expectedVersion(ifMatch, id);
+        EmployeeResponseDTO employee = employeeService.patchEmployee(id, employeePatchDTO, expectedVersion);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(employee);
+    }
+
+    @PatchMapping(params = "department")
+    @Operation(summary = "Update all employees of a department",
+            description = "Apply the same change to every employee of a department in a single statement")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees updated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkOperationResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content)
+    })
+    public ResponseEntity<BulkOperationResultDTO> updateEmployeesByDepartment(
+            @Parameter(description = "Department whose employees are updated", required = true)
+            @RequestParam String department,
+            @Parameter(description = "Changes to apply", required = true)
+            @Valid @RequestBody EmployeeBulkUpdateDTO employeeBulkUpdateDTO) {
+        return ResponseEntity.ok(employeeService.updateEmployeesByDepartment(department, employeeBulkUpdateDTO));
+    }
+
+    @DeleteMapping(params = "department")
+    @Operation(summary = "Delete all employees of a department",
+            description = "Remove every employee of a department in a single statement")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees deleted",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkOperationResultDTO.class)))
+    })
+    public ResponseEntity<BulkOperationResultDTO> deleteEmployeesByDepartment(
+            @Parameter(description = "Department whose employees are deleted", required = true)
+            @RequestParam String department) {
+        return ResponseEntity.ok(employeeService.deleteEmployeesByDepartment(department));
     }
 
     @DeleteMapping("/{id}")
@@ -118,4 +586,26 @@ public class EmployeeController {
         employeeService.deleteEmployee(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<List<EmployeeResponseDTO>> pageResponse(EmployeePage page) {
+        return pageResponse(page.getContent(), page.getNextCursor(), EmployeeETags.forPage(page), page.isTruncated());
+    }
+
+    private <T> ResponseEntity<List<T>> pageResponse(List<T> content, String nextCursor, String eTag, boolean truncated) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (eTag != null) {
+            response.eTag(eTag).varyBy(HttpHeaders.ACCEPT);
+        }
+        if (truncated) {
+            response.header(SEARCH_TRUNCATED_HEADER, "true");
+        }
+        if (nextCursor != null) {
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", nextCursor)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, nextCursor)
+                    .header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return response.body(content);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sets the strong ETag of single-employee responses from the content type that content negotiation
+ * selected, so that the JSON, CBOR and Smile representations never share a tag. A GET whose
+ * If-None-Match matches is answered with 304 here, before the employee is serialized.
+ */
+@ControllerAdvice(assignableTypes = EmployeeController.class)
+class EmployeeETagAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof EmployeeResponseDTO employee) || employee.getVersion() == null) {
+            return body;
+        }
+        String eTag = EmployeeETags.forEmployee(employee, selectedContentType);
+        if (isGetOrHead(request) && request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value()) {
+            // As Spring does for ETags set on a ResponseEntity: sets the header, and the 304 on a match
+            ServletWebRequest webRequest = new ServletWebRequest(servletRequest.getServletRequest(),
+                    servletResponse.getServletResponse());
+            return webRequest.checkNotModified(eTag) ? null : body;
+        }
+        response.getHeaders().setETag(eTag);
+        return body;
+    }
+
+    private static boolean isGetOrHead(ServerHttpRequest request) {
+        return HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod());
+    }
+}
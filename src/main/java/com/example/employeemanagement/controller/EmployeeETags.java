@@ -0,0 +1,101 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.config.MessageConverterConfig;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.exception.PreconditionFailedException;
+import org.springframework.http.MediaType;
+
+/**
+ * Entity tags derived from employee versions. A single employee's strong tag is
+ * {@code "<id>-<version>"}, with a {@code +cbor}/{@code +smile} suffix for binary responses because a
+ * strong tag must not be shared by different representations; {@link EmployeeETagAdvice} sets it once
+ * the representation has been negotiated. A page's tag hashes the ids and versions
+ * of its rows and its next cursor, so any change to a row on the page or to the page boundary yields a
+ * new tag; it is weak, since pages are only revalidated, and Tomcat does not compress responses with
+ * strong tags.
+ */
+final class EmployeeETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(MessageConverterConfig.APPLICATION_SMILE_VALUE);
+
+    private EmployeeETags() {
+    }
+
+    /**
+     * Strong tag of an employee in the representation content negotiation selected
+     */
+    static String forEmployee(EmployeeResponseDTO employee, MediaType contentType) {
+        return "\"" + employee.getId() + "-" + employee.getVersion() + representationSuffix(contentType) + "\"";
+    }
+
+    static String forPage(EmployeePage page) {
+        long hash = FNV_OFFSET_BASIS;
+        for (EmployeeResponseDTO employee : page.getContent()) {
+            hash = mix(hash, employee.getId());
+            hash = mix(hash, employee.getVersion());
+        }
+        if (page.getNextCursor() != null) {
+            hash = mix(hash, page.getNextCursor().hashCode());
+        }
+        if (page.isTruncated()) {
+            hash = mix(hash, 1);
+        }
+        return "W/\"p-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Version required by an If-Match header, or null when the header is absent or "*"
+     */
+    static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("If-Match requires a strong entity tag");
+        }
+        tag = tag.replace("\"", "");
+        int suffix = tag.indexOf('+');
+        if (suffix >= 0) {
+            tag = tag.substring(0, suffix);
+        }
+        String prefix = id + "-";
+        if (!tag.startsWith(prefix)) {
+            throw new PreconditionFailedException("Entity tag does not match employee " + id);
+        }
+        try {
+            return Long.valueOf(tag.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Malformed entity tag: " + ifMatch);
+        }
+    }
+
+    private static String representationSuffix(MediaType contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+            return "+cbor";
+        }
+        if (contentType.isCompatibleWith(APPLICATION_SMILE)) {
+            return "+smile";
+        }
+        return "";
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, Long value) {
+        return mix(hash, value == null ? -1L : value.longValue());
+    }
+}
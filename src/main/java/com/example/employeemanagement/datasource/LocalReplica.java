@@ -0,0 +1,124 @@
+package com.example.employeemanagement.datasource;
+
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a streaming replica: a second H2 database that receives a copy of the
+ * employee table on startup and then every committed change after {@code delay}, applied in
+ * order on one thread. Only meant for trying out read routing and read-your-writes locally;
+ * a real replica is kept current by the database itself.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.datasource.read.local-replica.enabled", havingValue = "true")
+public class LocalReplica implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalReplica.class);
+
+    private static final String UPSERT = "merge into employees t"
+            + " using (values (cast(? as bigint), ?, ?, ?, ?, cast(? as double precision), ?, cast(? as bigint)))"
+            + " s(id, first_name, last_name, email, department, salary, position, version) on t.id = s.id"
+            + " when matched and t.version < s.version then update set first_name = s.first_name,"
+            + " last_name = s.last_name, email = s.email, department = s.department, salary = s.salary,"
+            + " position = s.position, version = s.version"
+            + " when not matched then insert (id, first_name, last_name, email, department, salary, position, version)"
+            + " values (s.id, s.first_name, s.last_name, s.email, s.department, s.salary, s.position, s.version)";
+    private static final String BULK_UPDATE = "update employees set department = coalesce(?, department),"
+            + " position = coalesce(?, position), salary = coalesce(?, salary) * ?, version = version + 1"
+            + " where department = ?";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration delay;
+    private final ScheduledThreadPoolExecutor applier =
+            (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(1);
+
+    // The EntityManagerFactory is only a dependency so that the primary schema exists before the copy
+    public LocalReplica(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                        @Qualifier("readDataSource") DataSource readDataSource,
+                        EntityManagerFactory entityManagerFactory,
+                        @Value("${employee.datasource.read.local-replica.delay:200ms}") Duration delay) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(readDataSource);
+        this.delay = delay;
+    }
+
+    @PostConstruct
+    public void copy() {
+        replica.execute("drop table if exists employees");
+        List<String> script = primary.queryForList("script nosettings table employees", String.class);
+        for (String statement : script) {
+            if (!statement.startsWith("CREATE USER")) {
+                replica.execute(statement);
+            }
+        }
+        log.info("Local replica created with {} employees, changes applied after {}",
+                replica.queryForObject("select count(*) from employees", Long.class), delay);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        applier.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        applier.schedule(() -> apply(event), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.replica.pending", applier, executor -> executor.getQueue().size())
+                .description("Committed changes not yet applied to the local replica")
+                .register(registry);
+    }
+
+    private void apply(EmployeeChangedEvent event) {
+        try {
+            switch (event.getType()) {
+                case CREATED:
+                case UPDATED:
+                    EmployeeResponseDTO employee = event.getCurrent();
+                    replica.update(UPSERT, employee.getId(), employee.getFirstName(), employee.getLastName(),
+                            employee.getEmail(), employee.getDepartment(), employee.getSalary(),
+                            employee.getPosition(), employee.getVersion());
+                    break;
+                case DELETED:
+                    replica.update("delete from employees where id = ?", event.getEmployeeId());
+                    break;
+                case BULK_UPDATED:
+                    EmployeeBulkUpdateDTO update = event.getBulkUpdate();
+                    replica.update(BULK_UPDATE, update.getDepartment(), update.getPosition(), update.getSalary(),
+                            update.salaryFactor(), event.getDepartment());
+                    break;
+                case BULK_DELETED:
+                    replica.update("delete from employees where department = ?", event.getDepartment());
+                    break;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not apply {} of employee {} to the local replica", event.getType(), event.getEmployeeId(), e);
+        }
+    }
+}
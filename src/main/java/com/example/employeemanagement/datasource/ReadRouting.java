@@ -0,0 +1,44 @@
+package com.example.employeemanagement.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override sending read-only transactions to the primary database instead of the
+ * read database, for reads that must see the latest committed writes
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private ReadRouting() {
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+
+    /**
+     * Run {@code read} with every transaction it starts routed to the primary
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        boolean previous = requirePrimary();
+        try {
+            return read.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * @return the previous setting, to be passed to {@link #restore}
+     */
+    static boolean requirePrimary() {
+        boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(true);
+        return previous;
+    }
+
+    static void restore(boolean previous) {
+        PRIMARY_REQUIRED.set(previous);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.employeemanagement.datasource;
+
+import com.example.employeemanagement.sharding.ShardDataSources;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Versioned schema migrations, used instead of Hibernate's {@code ddl-auto} when
+ * {@code employee.schema.migrations.enabled=true}. Every {@code V<version>__<description>.sql} in
+ * {@code employee.schema.migrations.location} runs once, in version order, in its own transaction,
+ * and is recorded in {@code schema_history} with a checksum; a recorded script that has been edited
+ * since stops startup. With sharding every shard is migrated and keeps its own history. The
+ * EntityManagerFactory waits for this bean, see {@link SchemaMigrationsDetector}.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.schema.migrations.enabled", havingValue = "true")
+public class SchemaMigrations {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrations.class);
+
+    private static final String HISTORY_TABLE = "schema_history";
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    // The databases to migrate: every shard, or the one data source
+    private final List<DataSource> dataSources;
+    private final ResourceLoader resourceLoader;
+    private final String location;
+
+    public SchemaMigrations(ObjectProvider<DataSource> dataSource, ObjectProvider<ShardDataSources> shardDataSources,
+                            ResourceLoader resourceLoader,
+                            @Value("${employee.schema.migrations.location:classpath:db/migration}") String location) {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        this.dataSources = shards != null ? List.copyOf(shards.asList()) : List.of(dataSource.getObject());
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+    }
+
+    @PostConstruct
+    public void migrate() throws IOException {
+        List<Migration> migrations = findMigrations();
+        for (int i = 0; i < dataSources.size(); i++) {
+            migrate(dataSources.get(i), migrations, dataSources.size() > 1 ? "Shard " + i + " schema" : "Schema");
+        }
+    }
+
+    private void migrate(DataSource dataSource, List<Migration> migrations, String schemaName) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // The JPA transaction manager needs the EntityManagerFactory, which is only created afterwards
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("create table if not exists " + HISTORY_TABLE + " (version integer not null primary key,"
+                + " description varchar(200) not null, checksum bigint not null, installed_on timestamp not null)");
+        Map<Integer, Long> applied = new HashMap<>();
+        jdbcTemplate.query("select version, checksum from " + HISTORY_TABLE, resultSet -> {
+            applied.put(resultSet.getInt(1), resultSet.getLong(2));
+        });
+
+        int count = 0;
+        int version = applied.keySet().stream().max(Integer::compare).orElse(0);
+        for (Migration migration : migrations) {
+            Long checksum = applied.get(migration.version);
+            if (checksum != null) {
+                if (checksum != migration.checksum) {
+                    throw new IllegalStateException("Schema migration " + migration.script.getFilename()
+                            + " was changed after it had been applied");
+                }
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    ScriptUtils.executeSqlScript(connection, migration.script);
+                    return null;
+                });
+                jdbcTemplate.update("insert into " + HISTORY_TABLE + " (version, description, checksum, installed_on)"
+                                + " values (?, ?, ?, ?)",
+                        migration.version, migration.description, migration.checksum, Timestamp.from(Instant.now()));
+            });
+            log.info("{}: applied migration {}", schemaName, migration.script.getFilename());
+            version = Math.max(version, migration.version);
+            count++;
+        }
+        log.info("{} is at version {}, {} migrations applied", schemaName, version, count);
+    }
+
+    private List<Migration> findMigrations() throws IOException {
+        List<Migration> migrations = new ArrayList<>();
+        for (Resource resource : ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+                .getResources(location + "/*.sql")) {
+            Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename());
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Schema migration " + resource.getFilename()
+                        + " is not named V<version>__<description>.sql");
+            }
+            migrations.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                    resource, checksum(resource)));
+        }
+        migrations.sort(Comparator.comparingInt(migration -> migration.version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version == migrations.get(i - 1).version) {
+                throw new IllegalStateException("More than one schema migration has version "
+                        + migrations.get(i).version);
+            }
+        }
+        return migrations;
+    }
+
+    private static long checksum(Resource resource) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = resource.getInputStream()) {
+            crc.update(in.readAllBytes());
+        }
+        return crc.getValue();
+    }
+
+    private static final class Migration {
+
+        private final int version;
+        private final String description;
+        private final Resource script;
+        private final long checksum;
+
+        private Migration(int version, String description, Resource script, long checksum) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.employeemanagement.datasource;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+
+import java.util.Set;
+
+/**
+ * Declares {@link SchemaMigrations} a database initializer, so that Spring Boot creates it before
+ * the beans that use the database, the EntityManagerFactory first of all. Registered in
+ * {@code META-INF/spring.factories}.
+ */
+public class SchemaMigrationsDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+    @Override
+    protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+        return Set.of(SchemaMigrations.class);
+    }
+}
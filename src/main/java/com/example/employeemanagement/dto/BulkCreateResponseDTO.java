@@ -0,0 +1,54 @@
+package com.example.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Summary and per-item results of a bulk create request")
+public class BulkCreateResponseDTO {
+
+    @Schema(description = "Number of employees created", example = "998")
+    private int created;
+
+    @Schema(description = "Number of items rejected", example = "2")
+    private int rejected;
+
+    @Schema(description = "Per-item results, in request order")
+    private List<BulkItemResultDTO> results;
+
+    // Default constructor
+    public BulkCreateResponseDTO() {
+    }
+
+    // Constructor with all fields
+    public BulkCreateResponseDTO(int created, int rejected, List<BulkItemResultDTO> results) {
+        this.created = created;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BulkItemResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkItemResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Result of one item of a bulk create request")
+public class BulkItemResultDTO {
+
+    @Schema(description = "Position of the item in the request array", example = "0")
+    private int index;
+
+    @Schema(description = "Outcome of the item", example = "CREATED")
+    private BulkItemStatus status;
+
+    @Schema(description = "Created employee, present when status is CREATED")
+    private EmployeeResponseDTO employee;
+
+    @Schema(description = "Validation or conflict messages, present when the item was rejected")
+    private List<String> errors;
+
+    // Default constructor
+    public BulkItemResultDTO() {
+    }
+
+    // Constructor with all fields
+    public BulkItemResultDTO(int index, BulkItemStatus status, EmployeeResponseDTO employee, List<String> errors) {
+        this.index = index;
+        this.status = status;
+        this.employee = employee;
+        this.errors = errors;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public BulkItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BulkItemStatus status) {
+        this.status = status;
+    }
+
+    public EmployeeResponseDTO getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeResponseDTO employee) {
+        this.employee = employee;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
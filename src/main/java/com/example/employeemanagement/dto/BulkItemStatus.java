@@ -0,0 +1,10 @@
+package com.example.employeemanagement.dto;
+
+/**
+ * Outcome of a single item of a bulk request
+ */
+public enum BulkItemStatus {
+    CREATED,
+    INVALID,
+    DUPLICATE_EMAIL
+}
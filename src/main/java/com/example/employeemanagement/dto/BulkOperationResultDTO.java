@@ -0,0 +1,26 @@
+package com.example.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a criteria-based bulk update or delete")
+public class BulkOperationResultDTO {
+
+    @Schema(description = "Number of employees updated or deleted", example = "42")
+    private int affected;
+
+    // Default constructor
+    public BulkOperationResultDTO() {
+    }
+
+    public BulkOperationResultDTO(int affected) {
+        this.affected = affected;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+
+    public void setAffected(int affected) {
+        this.affected = affected;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Salary statistics of one department")
+public class DepartmentStatsDTO {
+
+    @Schema(description = "Department name", example = "Engineering")
+    private String department;
+
+    @Schema(description = "Number of employees", example = "42")
+    private int headcount;
+
+    @Schema(description = "Sum of all salaries", example = "210000.00")
+    private double totalSalary;
+
+    @Schema(description = "Average salary", example = "5000.00")
+    private double averageSalary;
+
+    @Schema(description = "Lowest salary", example = "3000.00")
+    private double minSalary;
+
+    @Schema(description = "Highest salary", example = "9000.00")
+    private double maxSalary;
+
+    @Schema(description = "Nearest-rank salary percentiles, keyed p50, p90, p95 and p99",
+            example = "{\"p50\": 4800.0, \"p90\": 7200.0, \"p95\": 8000.0, \"p99\": 8900.0}")
+    private Map<String, Double> salaryPercentiles;
+
+    // Default constructor
+    public DepartmentStatsDTO() {
+    }
+
+    // Getters and Setters
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public int getHeadcount() {
+        return headcount;
+    }
+
+    public void setHeadcount(int headcount) {
+        this.headcount = headcount;
+    }
+
+    public double getTotalSalary() {
+        return totalSalary;
+    }
+
+    public void setTotalSalary(double totalSalary) {
+        this.totalSalary = totalSalary;
+    }
+
+    public double getAverageSalary() {
+        return averageSalary;
+    }
+
+    public void setAverageSalary(double averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+
+    public double getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(double minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(double maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public Map<String, Double> getSalaryPercentiles() {
+        return salaryPercentiles;
+    }
+
+    public void setSalaryPercentiles(Map<String, Double> salaryPercentiles) {
+        this.salaryPercentiles = salaryPercentiles;
+    }
+}
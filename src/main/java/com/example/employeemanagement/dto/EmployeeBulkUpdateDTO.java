@@ -0,0 +1,86 @@
+package com.example.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "Changes applied to every employee matching a bulk criteria. Omitted fields are left unchanged")
+public class EmployeeBulkUpdateDTO {
+
+    @Pattern(regexp = ".*\\S.*", message = "Department must not be blank")
+    @Schema(description = "Move the employees to this department", example = "Platform")
+    private String department;
+
+    @Pattern(regexp = ".*\\S.*", message = "Position must not be blank")
+    @Schema(description = "Set the position of the employees", example = "Software Engineer")
+    private String position;
+
+    @Positive(message = "Salary must be positive")
+    @Schema(description = "Set the salary of the employees", example = "5000.00")
+    private Double salary;
+
+    @DecimalMin(value = "-99.99", message = "Salary increase must be greater than -100 percent")
+    @Schema(description = "Raise (or cut, if negative) the salary by this percentage, applied after 'salary'", example = "3.5")
+    private Double salaryIncreasePercent;
+
+    // Default constructor
+    public EmployeeBulkUpdateDTO() {
+    }
+
+    // Constructor with all fields
+    public EmployeeBulkUpdateDTO(String department, String position, Double salary, Double salaryIncreasePercent) {
+        this.department = department;
+        this.position = position;
+        this.salary = salary;
+        this.salaryIncreasePercent = salaryIncreasePercent;
+    }
+
+    @AssertTrue(message = "At least one change must be given")
+    @Schema(hidden = true)
+    public boolean isAnyChange() {
+        return department != null || position != null || salary != null || salaryIncreasePercent != null;
+    }
+
+    /**
+     * Multiplier applied to the salary: 1 when no percentage is given
+     */
+    @Schema(hidden = true)
+    public double salaryFactor() {
+        return salaryIncreasePercent == null ? 1.0 : 1.0 + salaryIncreasePercent / 100.0;
+    }
+
+    // Getters and Setters
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public void setPosition(String position) {
+        this.position = position;
+    }
+
+    public Double getSalary() {
+        return salary;
+    }
+
+    public void setSalary(Double salary) {
+        this.salary = salary;
+    }
+
+    public Double getSalaryIncreasePercent() {
+        return salaryIncreasePercent;
+    }
+
+    public void setSalaryIncreasePercent(Double salaryIncreasePercent) {
+        this.salaryIncreasePercent = salaryIncreasePercent;
+    }
+}
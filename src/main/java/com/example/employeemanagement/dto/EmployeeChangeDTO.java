@@ -0,0 +1,95 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.event.EmployeeChangeType;
+import com.example.employeemanagement.model.EmployeeOutboxEvent;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "One entry of the employee change feed")
+public class EmployeeChangeDTO {
+
+    @Schema(description = "Position in the feed; pass the last one seen as 'since' to resume", example = "42")
+    private long offset;
+
+    @Schema(description = "Kind of change", example = "UPDATED")
+    private EmployeeChangeType type;
+
+    @Schema(description = "Changed employee, absent for bulk changes", example = "1")
+    private Long employeeId;
+
+    @Schema(description = "Department of the employee, or the department criteria of a bulk change", example = "Engineering")
+    private String department;
+
+    @Schema(description = "When the change was committed")
+    private Instant occurredAt;
+
+    @Schema(description = "Employee after the change, or the bulk criteria and affected row count")
+    private String payload;
+
+    // Default constructor
+    public EmployeeChangeDTO() {
+    }
+
+    public static EmployeeChangeDTO from(EmployeeOutboxEvent event) {
+        EmployeeChangeDTO change = new EmployeeChangeDTO();
+        change.setOffset(event.getPublishedOffset());
+        change.setType(event.getType());
+        change.setEmployeeId(event.getEmployeeId());
+        change.setDepartment(event.getDepartment());
+        change.setOccurredAt(event.getOccurredAt());
+        change.setPayload(event.getPayload());
+        return change;
+    }
+
+    // Getters and Setters
+    public long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
+    public EmployeeChangeType getType() {
+        return type;
+    }
+
+    public void setType(EmployeeChangeType type) {
+        this.type = type;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @JsonRawValue
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort field, the sort key and the id of the last row of a page.
+ * Encoded as URL-safe Base64 so clients can pass it back verbatim in {@code ?after=}.
+ */
+public class EmployeeCursor {
+
+    private final EmployeeSortField sortField;
+    private final Long id;
+    private final String sortValue;
+
+    public EmployeeCursor(EmployeeSortField sortField, Long id, String sortValue) {
+        this.sortField = sortField;
+        this.id = id;
+        this.sortValue = sortValue;
+    }
+
+    /**
+     * Cursor positioned before the first row of the given sort order
+     */
+    public static EmployeeCursor first(EmployeeSortField sortField) {
+        return new EmployeeCursor(sortField, 0L, "");
+    }
+
+    /**
+     * Cursor positioned after the given employee
+     */
+    public static EmployeeCursor after(EmployeeSortField sortField, EmployeeResponseDTO employee) {
+        String sortValue;
+        switch (sortField) {
+            case LAST_NAME:
+                sortValue = employee.getLastName();
+                break;
+            case DEPARTMENT:
+                sortValue = employee.getDepartment();
+                break;
+            default:
+                sortValue = "";
+        }
+        return new EmployeeCursor(sortField, employee.getId(), sortValue);
+    }
+
+    public static EmployeeCursor decode(String token, EmployeeSortField expectedSortField) {
+        if (token == null || token.isEmpty()) {
+            return first(expectedSortField);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            EmployeeSortField sortField = EmployeeSortField.fromParameter(parts[0]);
+            if (sortField != expectedSortField) {
+                throw new BadRequestException("Cursor was issued for sort=" + parts[0]);
+            }
+            return new EmployeeCursor(sortField, Long.valueOf(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = sortField.getParameterName() + ":" + id + ":" + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public EmployeeSortField getSortField() {
+        return sortField;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSortValue() {
+        return sortValue;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.exception.BadRequestException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fields of {@link EmployeeResponseDTO} that can be selected with {@code ?fields=}, in the
+ * order they are serialized. {@code fullName} is derived from the first and last name columns.
+ */
+public enum EmployeeField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    DEPARTMENT("department"),
+    SALARY("salary"),
+    POSITION("position"),
+    FULL_NAME("fullName");
+
+    private final String name;
+
+    EmployeeField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Entity attribute backing this field, or null for derived fields
+     */
+    public String getAttribute() {
+        return this == FULL_NAME ? null : name;
+    }
+
+    public static Set<EmployeeField> parse(String fields) {
+        Set<EmployeeField> result = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            result.add(fromName(trimmed));
+        }
+        if (result.isEmpty()) {
+            throw new BadRequestException("fields must name at least one field");
+        }
+        return result;
+    }
+
+    private static EmployeeField fromName(String name) {
+        for (EmployeeField field : values()) {
+            if (field.name.equals(name)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("Unknown field: " + name);
+    }
+}
@@ -3,7 +3,10 @@ package com.example.employeemanagement.dto;
 import com.example.employeemanagement.model.Employee;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
@@ -17,7 +20,7 @@ public class EmployeeMapper {
             return null;
         }
 
-        return new EmployeeResponseDTO(
+        EmployeeResponseDTO responseDTO = new EmployeeResponseDTO(
                 employee.getId(),
                 employee.getFirstName(),
                 employee.getLastName(),
@@ -26,6 +29,8 @@ public class EmployeeMapper {
                 employee.getSalary(),
                 employee.getPosition()
         );
+        responseDTO.setVersion(employee.getVersion());
+        return responseDTO;
     }
 
     /**
@@ -75,4 +80,53 @@ public class EmployeeMapper {
                 .map(this::toResponseDTO)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * The values of a patch that differ from the employee, keyed by entity attribute
+     */
+    public Map<String, Object> changedAttributes(EmployeeResponseDTO current, Map<String, Object> values) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        values.forEach((attribute, value) -> {
+            if (!Objects.equals(value, attributeOf(current, attribute))) {
+                changes.put(attribute, value);
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * A copy of the employee with the changed attributes and the version after the update
+     */
+    public EmployeeResponseDTO applyChanges(EmployeeResponseDTO current, Map<String, Object> changes) {
+        EmployeeResponseDTO updated = new EmployeeResponseDTO(
+                current.getId(),
+                (String) changes.getOrDefault("firstName", current.getFirstName()),
+                (String) changes.getOrDefault("lastName", current.getLastName()),
+                (String) changes.getOrDefault("email", current.getEmail()),
+                (String) changes.getOrDefault("department", current.getDepartment()),
+                (Double) changes.getOrDefault("salary", current.getSalary()),
+                (String) changes.getOrDefault("position", current.getPosition())
+        );
+        updated.setVersion(current.getVersion() + 1);
+        return updated;
+    }
+
+    private static Object attributeOf(EmployeeResponseDTO employee, String attribute) {
+        switch (attribute) {
+            case "firstName":
+                return employee.getFirstName();
+            case "lastName":
+                return employee.getLastName();
+            case "email":
+                return employee.getEmail();
+            case "department":
+                return employee.getDepartment();
+            case "salary":
+                return employee.getSalary();
+            case "position":
+                return employee.getPosition();
+            default:
+                throw new IllegalArgumentException("Unknown attribute: " + attribute);
+        }
+    }
 }
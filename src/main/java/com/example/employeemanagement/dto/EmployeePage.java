@@ -0,0 +1,41 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of employees together with the cursor for the following page
+ */
+public class EmployeePage {
+
+    private final List<EmployeeResponseDTO> content;
+    private final String nextCursor;
+    private final boolean truncated;
+
+    public EmployeePage(List<EmployeeResponseDTO> content, String nextCursor) {
+        this(content, nextCursor, false);
+    }
+
+    public EmployeePage(List<EmployeeResponseDTO> content, String nextCursor, boolean truncated) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.truncated = truncated;
+    }
+
+    public List<EmployeeResponseDTO> getContent() {
+        return content;
+    }
+
+    /**
+     * Cursor for the next page, or null when this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * True when the results stop early because the search gave up before finding all matches
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
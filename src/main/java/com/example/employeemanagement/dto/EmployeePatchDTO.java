@@ -0,0 +1,140 @@
+package com.example.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch (RFC 7396) of an employee. Setters record which fields the document contains,
+ * so that an omitted field, which is left unchanged, can be told apart from an explicit null,
+ * which removes the value and is therefore rejected for the required fields.
+ */
+@Schema(description = "Changes to one employee as a JSON Merge Patch. Omitted fields are left unchanged")
+public class EmployeePatchDTO {
+
+    @Schema(description = "First name of the employee", example = "John")
+    private String firstName;
+
+    @Schema(description = "Last name of the employee", example = "Doe")
+    private String lastName;
+
+    @Schema(description = "Email address of the employee", example = "john.doe@company.com")
+    private String email;
+
+    @Schema(description = "Department where the employee works", example = "Engineering")
+    private String department;
+
+    @Schema(description = "Monthly salary of the employee", example = "5000.00")
+    private Double salary;
+
+    @Schema(description = "Job position/title of the employee", example = "Software Engineer")
+    private String position;
+
+    // Names of the fields in the document, in document order
+    private final Set<String> fields = new LinkedHashSet<>();
+    private final Set<String> unknownFields = new LinkedHashSet<>();
+
+    // Default constructor
+    public EmployeePatchDTO() {
+    }
+
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+        fields.add("firstName");
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+        fields.add("lastName");
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        fields.add("email");
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+        fields.add("department");
+    }
+
+    public Double getSalary() {
+        return salary;
+    }
+
+    public void setSalary(Double salary) {
+        this.salary = salary;
+        fields.add("salary");
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public void setPosition(String position) {
+        this.position = position;
+        fields.add("position");
+    }
+
+    // Read-only or misspelled fields are reported instead of being silently ignored
+    @JsonAnySetter
+    public void setUnknownField(String name, Object value) {
+        unknownFields.add(name);
+    }
+
+    @Schema(hidden = true)
+    public Set<String> unknownFields() {
+        return unknownFields;
+    }
+
+    /**
+     * The fields the document contains and their values, keyed by entity attribute
+     */
+    @Schema(hidden = true)
+    public Map<String, Object> values() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "firstName":
+                    values.put(field, firstName);
+                    break;
+                case "lastName":
+                    values.put(field, lastName);
+                    break;
+                case "email":
+                    values.put(field, email);
+                    break;
+                case "department":
+                    values.put(field, department);
+                    break;
+                case "salary":
+                    values.put(field, salary);
+                    break;
+                default:
+                    values.put(field, position);
+            }
+        }
+        return values;
+    }
+}
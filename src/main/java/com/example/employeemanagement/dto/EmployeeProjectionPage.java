@@ -0,0 +1,29 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One keyset page of employees restricted to a subset of fields
+ */
+public class EmployeeProjectionPage {
+
+    private final List<Map<String, Object>> content;
+    private final String nextCursor;
+
+    public EmployeeProjectionPage(List<Map<String, Object>> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Map<String, Object>> getContent() {
+        return content;
+    }
+
+    /**
+     * Cursor for the next page, or null when this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
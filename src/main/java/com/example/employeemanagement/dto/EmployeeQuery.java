@@ -0,0 +1,50 @@
+package com.example.employeemanagement.dto;
+
+import java.util.Set;
+
+/**
+ * Filter, order and limit of an ad-hoc employee query. Null bounds and empty sets match everything.
+ */
+public class EmployeeQuery {
+
+    private final Double minSalary;
+    private final Double maxSalary;
+    private final Set<String> departments;
+    private final Set<String> positions;
+    private final EmployeeQuerySort sort;
+    private final int limit;
+
+    public EmployeeQuery(Double minSalary, Double maxSalary, Set<String> departments, Set<String> positions,
+                         EmployeeQuerySort sort, int limit) {
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.departments = departments == null ? Set.of() : Set.copyOf(departments);
+        this.positions = positions == null ? Set.of() : Set.copyOf(positions);
+        this.sort = sort;
+        this.limit = limit;
+    }
+
+    public Double getMinSalary() {
+        return minSalary;
+    }
+
+    public Double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public Set<String> getDepartments() {
+        return departments;
+    }
+
+    public Set<String> getPositions() {
+        return positions;
+    }
+
+    public EmployeeQuerySort getSort() {
+        return sort;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+
+/**
+ * The first employees matching a query, in query order, together with the number of all matches
+ */
+public class EmployeeQueryResult {
+
+    private final List<EmployeeResponseDTO> content;
+    private final long totalMatches;
+
+    public EmployeeQueryResult(List<EmployeeResponseDTO> content, long totalMatches) {
+        this.content = content;
+        this.totalMatches = totalMatches;
+    }
+
+    public List<EmployeeResponseDTO> getContent() {
+        return content;
+    }
+
+    public long getTotalMatches() {
+        return totalMatches;
+    }
+}
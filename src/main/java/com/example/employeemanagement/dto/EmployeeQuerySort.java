@@ -0,0 +1,31 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.exception.BadRequestException;
+
+/**
+ * Orders supported by the employee query endpoint, each tie-broken by employee id
+ */
+public enum EmployeeQuerySort {
+    ID("id"),
+    SALARY("salary"),
+    SALARY_DESC("-salary");
+
+    private final String parameterName;
+
+    EmployeeQuerySort(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static EmployeeQuerySort fromParameter(String value) {
+        for (EmployeeQuerySort sort : values()) {
+            if (sort.parameterName.equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("Unsupported sort: " + value);
+    }
+}
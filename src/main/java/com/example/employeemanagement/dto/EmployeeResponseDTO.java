@@ -1,5 +1,6 @@
 package com.example.employeemanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Data Transfer Object for employee response")
@@ -29,6 +30,10 @@ public class EmployeeResponseDTO {
     @Schema(description = "Full name of the employee", example = "John Doe")
     private String fullName;
 
+    // Sent as the ETag header rather than in the body
+    @JsonIgnore
+    private Long version;
+
     // Default constructor
     public EmployeeResponseDTO() {
     }
@@ -113,6 +118,15 @@ public class EmployeeResponseDTO {
         this.fullName = fullName;
     }
 
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Helper method to update full name
     private void updateFullName() {
         if (firstName != null && lastName != null) {
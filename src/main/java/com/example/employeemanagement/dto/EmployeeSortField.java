@@ -0,0 +1,32 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.exception.BadRequestException;
+
+/**
+ * Sort orders supported by the keyset-paginated list endpoints.
+ * Every order is made unique by using the employee id as the tie-breaker.
+ */
+public enum EmployeeSortField {
+    ID("id"),
+    LAST_NAME("lastName"),
+    DEPARTMENT("department");
+
+    private final String parameterName;
+
+    EmployeeSortField(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static EmployeeSortField fromParameter(String value) {
+        for (EmployeeSortField field : values()) {
+            if (field.parameterName.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("Unsupported sort field: " + value);
+    }
+}
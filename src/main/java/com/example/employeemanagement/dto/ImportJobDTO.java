@@ -0,0 +1,142 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.model.ImportJob;
+import com.example.employeemanagement.model.ImportJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "Progress and outcome of a bulk import")
+public class ImportJobDTO {
+
+    @Schema(description = "Job id; pass it as 'jobId' to resume an interrupted import", example = "1")
+    private Long id;
+
+    @Schema(description = "Format of the upload", example = "CSV")
+    private ExportFormat format;
+
+    @Schema(description = "Job status", example = "COMPLETED")
+    private ImportJobStatus status;
+
+    @Schema(description = "Source rows processed and committed; a resumed import skips this many rows", example = "100000")
+    private long committedRows;
+
+    @Schema(description = "Employees created", example = "99990")
+    private long importedRows;
+
+    @Schema(description = "Rows rejected by validation or the email uniqueness check", example = "10")
+    private long failedRows;
+
+    @Schema(description = "Why the job failed, present when status is FAILED")
+    private String errorMessage;
+
+    @Schema(description = "When the job was started")
+    private Instant createdAt;
+
+    @Schema(description = "When the last chunk was committed")
+    private Instant updatedAt;
+
+    @Schema(description = "First rejected rows, ordered by row number")
+    private List<ImportRowErrorDTO> errors;
+
+    // Default constructor
+    public ImportJobDTO() {
+    }
+
+    public static ImportJobDTO from(ImportJob job, List<ImportRowErrorDTO> errors) {
+        ImportJobDTO dto = new ImportJobDTO();
+        dto.setId(job.getId());
+        dto.setFormat(job.getFormat());
+        dto.setStatus(job.getStatus());
+        dto.setCommittedRows(job.getCommittedRows());
+        dto.setImportedRows(job.getImportedRows());
+        dto.setFailedRows(job.getFailedRows());
+        dto.setErrorMessage(job.getErrorMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setUpdatedAt(job.getUpdatedAt());
+        dto.setErrors(errors);
+        return dto;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ExportFormat format) {
+        this.format = format;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportJobStatus status) {
+        this.status = status;
+    }
+
+    public long getCommittedRows() {
+        return committedRows;
+    }
+
+    public void setCommittedRows(long committedRows) {
+        this.committedRows = committedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public List<ImportRowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportRowErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A source row that was not imported")
+public class ImportRowErrorDTO {
+
+    @Schema(description = "1-based data row of the upload, not counting the CSV header", example = "42")
+    private long row;
+
+    @Schema(description = "Why the row was rejected", example = "email: Email should be valid")
+    private String message;
+
+    // Default constructor
+    public ImportRowErrorDTO() {
+    }
+
+    // Constructor with all fields
+    public ImportRowErrorDTO(long row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.employeemanagement.email;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over email addresses. {@link #mightContain} never answers false for an added
+ * email; it answers true for an email that was never added with roughly the configured
+ * probability while no more than the expected number of emails have been added.
+ * <p>
+ * Adds and lookups are lock-free; bits are only ever set, so removed emails stay "possible"
+ * until the filter is rebuilt.
+ */
+class EmailFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong added = new AtomicLong();
+
+    EmailFilter(long expectedEmails, double falsePositiveRate) {
+        long emails = Math.max(1, expectedEmails);
+        long bits = (long) Math.ceil(-emails * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / emails * Math.log(2)));
+    }
+
+    void add(String email) {
+        long hash = hash(email);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        added.incrementAndGet();
+    }
+
+    boolean mightContain(String email) {
+        long hash = hash(email);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Emails added since the filter was created, including repeated ones
+     */
+    long added() {
+        return added.get();
+    }
+
+    long footprintBytes() {
+        return bitCount / 8;
+    }
+
+    // 64-bit FNV-1a over the UTF-16 code units, finished with the MurmurHash3 mixer
+    private static long hash(String email) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < email.length(); i++) {
+            hash ^= email.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
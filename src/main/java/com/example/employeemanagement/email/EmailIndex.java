@@ -0,0 +1,286 @@
+package com.example.employeemanagement.email;
+
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.exception.DuplicateEmailException;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmailRoutes;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Answers "is this email already used?" without a query for most new emails.
+ * <p>
+ * A Bloom filter over every email in the table is built on startup and extended from committed
+ * creates and updates. Emails the filter has never seen are free; the others are confirmed with
+ * a query, since the filter may answer "possibly" for an unused email. The unique constraint on
+ * the column remains the authority: a check that races with another insert is caught on flush.
+ * Deleted emails cannot be removed from the filter, so it is rebuilt periodically, which also
+ * resizes it to the current table.
+ * <p>
+ * With sharding, a unique constraint only covers one shard. Emails are then looked up in the
+ * {@link EmailRoutes} table instead, where writers {@link #reserve} them before use and release
+ * them once no employee uses them.
+ */
+@Component
+public class EmailIndex implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailIndex.class);
+
+    // Head room for inserts between rebuilds
+    private static final int GROWTH_FACTOR = 2;
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    // Null unless sharded
+    private final EmailRoutes emailRoutes;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    // Null until the first load has finished, and while the filter is disabled
+    private volatile EmailFilter filter;
+    // The filter being loaded, which must also receive the changes committed during the load
+    private volatile EmailFilter loading;
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder unfiltered = new LongAdder();
+
+    public EmailIndex(EmployeeRepository employeeRepository, TransactionTemplate transactionTemplate,
+                      EmployeeShards shards,
+                      @Value("${employee.email-filter.enabled:true}") boolean enabled,
+                      @Value("${employee.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.emailRoutes = shards.emailRoutes();
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Whether an employee uses this email, as far as committed data shows
+     */
+    public boolean isInUse(String email) {
+        EmailFilter current = filter;
+        if (current == null) {
+            unfiltered.increment();
+            return exists(email);
+        }
+        if (!current.mightContain(email)) {
+            skipped.increment();
+            return false;
+        }
+        boolean inUse = exists(email);
+        (inUse ? confirmed : falsePositives).increment();
+        return inUse;
+    }
+
+    /**
+     * The given emails that an employee uses, with one IN query for the ones the filter cannot rule out
+     */
+    public Set<String> findInUse(Collection<String> emails) {
+        EmailFilter current = filter;
+        Collection<String> candidates = emails;
+        if (current == null) {
+            unfiltered.add(emails.size());
+        } else {
+            List<String> possible = new ArrayList<>();
+            for (String email : emails) {
+                if (current.mightContain(email)) {
+                    possible.add(email);
+                }
+            }
+            skipped.add(emails.size() - possible.size());
+            candidates = possible;
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> inUse = emailRoutes == null
+                ? new HashSet<>(employeeRepository.findExistingEmails(candidates))
+                : emailRoutes.findExisting(candidates);
+        if (current != null) {
+            confirmed.add(inUse.size());
+            falsePositives.add(candidates.size() - inUse.size());
+        }
+        return inUse;
+    }
+
+    /**
+     * Check that an email is free before an employee of the given shard starts using it. With
+     * sharding the email is also claimed for the shard; called inside the writing transaction,
+     * the claim is given up again if that transaction does not commit.
+     *
+     * @throws DuplicateEmailException if the email is in use
+     */
+    public void reserve(String email, int shard) {
+        if (emailRoutes == null) {
+            if (isInUse(email)) {
+                throw new DuplicateEmailException();
+            }
+            return;
+        }
+        if (!emailRoutes.claim(email, shard)) {
+            throw new DuplicateEmailException();
+        }
+        releaseOnRollback(List.of(email));
+    }
+
+    /**
+     * {@link #reserve} for many emails at once
+     *
+     * @return the emails that are in use and were not reserved
+     */
+    public Set<String> reserveAll(Collection<String> emails, int shard) {
+        if (emailRoutes == null) {
+            return findInUse(emails);
+        }
+        Set<String> inUse = emailRoutes.claimAll(emails, shard);
+        List<String> claimed = new ArrayList<>(emails.size() - inUse.size());
+        for (String email : emails) {
+            if (!inUse.contains(email)) {
+                claimed.add(email);
+            }
+        }
+        releaseOnRollback(claimed);
+        return inUse;
+    }
+
+    /**
+     * Give up emails no employee uses anymore once the current transaction commits. Without
+     * sharding there is nothing to release.
+     */
+    public void releaseAfterCommit(Collection<String> emails) {
+        if (emailRoutes == null || emails.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emailRoutes.release(emails);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailRoutes.release(emails);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeResponseDTO current = event.getCurrent();
+        EmployeeResponseDTO previous = event.getPrevious();
+        if (current == null || (previous != null && current.getEmail().equals(previous.getEmail()))) {
+            return;
+        }
+        // The filter being loaded is read first: a load starting after this read sees the change in
+        // the table, and a load finishing after it has already been published as the filter
+        EmailFilter next = loading;
+        EmailFilter active = filter;
+        if (next != null) {
+            next.add(current.getEmail());
+        }
+        if (active != null && active != next) {
+            active.add(current.getEmail());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        long emailCount = emailRoutes == null ? employeeRepository.count() : emailRoutes.count();
+        long capacity = Math.max(MIN_CAPACITY, emailCount * GROWTH_FACTOR);
+        EmailFilter loadedFilter = new EmailFilter(capacity, falsePositiveRate);
+        loading = loadedFilter;
+        try {
+            if (emailRoutes == null) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+                        emails.forEach(loadedFilter::add);
+                    }
+                });
+            } else {
+                emailRoutes.forEachEmail(loadedFilter::add);
+            }
+            filter = loadedFilter;
+        } finally {
+            loading = null;
+        }
+        log.info("Loaded {} emails into a {} KB filter in {} ms", loadedFilter.added(),
+                loadedFilter.footprintBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Rebuild the filter to drop deleted emails and resize it to the table
+     */
+    @Scheduled(initialDelayString = "${employee.email-filter.refresh-interval:PT1H}",
+            fixedDelayString = "${employee.email-filter.refresh-interval:PT1H}")
+    public void refresh() {
+        load();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String description = "Email uniqueness checks by how they were answered";
+        FunctionCounter.builder("employee.email.checks", skipped, LongAdder::doubleValue)
+                .description(description).tag("outcome", "skipped").register(registry);
+        FunctionCounter.builder("employee.email.checks", confirmed, LongAdder::doubleValue)
+                .description(description).tag("outcome", "confirmed").register(registry);
+        FunctionCounter.builder("employee.email.checks", falsePositives, LongAdder::doubleValue)
+                .description(description).tag("outcome", "false_positive").register(registry);
+        FunctionCounter.builder("employee.email.checks", unfiltered, LongAdder::doubleValue)
+                .description(description).tag("outcome", "unfiltered").register(registry);
+        Gauge.builder("employee.email.filter.size", this, index -> index.footprintBytes())
+                .description("Bytes of the email filter")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void releaseOnRollback(Collection<String> emails) {
+        if (emails.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    emailRoutes.release(emails);
+                }
+            }
+        });
+    }
+
+    private boolean exists(String email) {
+        return emailRoutes == null ? employeeRepository.existsByEmail(email) : emailRoutes.exists(email);
+    }
+
+    private double footprintBytes() {
+        EmailFilter current = filter;
+        return current == null ? 0 : current.footprintBytes();
+    }
+}
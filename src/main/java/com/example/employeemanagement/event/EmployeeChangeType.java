@@ -0,0 +1,9 @@
+package com.example.employeemanagement.event;
+
+public enum EmployeeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    BULK_UPDATED,
+    BULK_DELETED
+}
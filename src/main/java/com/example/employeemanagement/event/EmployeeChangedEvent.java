@@ -0,0 +1,83 @@
+package com.example.employeemanagement.event;
+
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+
+/**
+ * Published by EmployeeService for every write, inside the writing transaction.
+ * Single-employee changes carry the employee before and/or after the change; bulk changes
+ * carry the department criteria, the applied update and the affected row count instead.
+ */
+public class EmployeeChangedEvent {
+
+    private final EmployeeChangeType type;
+    private final Long employeeId;
+    private final EmployeeResponseDTO previous;
+    private final EmployeeResponseDTO current;
+    private final String department;
+    private final EmployeeBulkUpdateDTO bulkUpdate;
+    private final int affected;
+
+    private EmployeeChangedEvent(EmployeeChangeType type, Long employeeId, EmployeeResponseDTO previous,
+                                 EmployeeResponseDTO current, String department, EmployeeBulkUpdateDTO bulkUpdate,
+                                 int affected) {
+        this.type = type;
+        this.employeeId = employeeId;
+        this.previous = previous;
+        this.current = current;
+        this.department = department;
+        this.bulkUpdate = bulkUpdate;
+        this.affected = affected;
+    }
+
+    public static EmployeeChangedEvent created(EmployeeResponseDTO employee) {
+        return new EmployeeChangedEvent(EmployeeChangeType.CREATED, employee.getId(), null, employee,
+                employee.getDepartment(), null, 1);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeResponseDTO previous, EmployeeResponseDTO current) {
+        return new EmployeeChangedEvent(EmployeeChangeType.UPDATED, current.getId(), previous, current,
+                current.getDepartment(), null, 1);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeResponseDTO previous) {
+        return new EmployeeChangedEvent(EmployeeChangeType.DELETED, previous.getId(), previous, null,
+                previous.getDepartment(), null, 1);
+    }
+
+    public static EmployeeChangedEvent bulkUpdated(String department, EmployeeBulkUpdateDTO bulkUpdate, int affected) {
+        return new EmployeeChangedEvent(EmployeeChangeType.BULK_UPDATED, null, null, null, department, bulkUpdate, affected);
+    }
+
+    public static EmployeeChangedEvent bulkDeleted(String department, int affected) {
+        return new EmployeeChangedEvent(EmployeeChangeType.BULK_DELETED, null, null, null, department, null, affected);
+    }
+
+    public EmployeeChangeType getType() {
+        return type;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public EmployeeResponseDTO getPrevious() {
+        return previous;
+    }
+
+    public EmployeeResponseDTO getCurrent() {
+        return current;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public EmployeeBulkUpdateDTO getBulkUpdate() {
+        return bulkUpdate;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+}
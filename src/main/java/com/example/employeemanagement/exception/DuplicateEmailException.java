@@ -0,0 +1,11 @@
+package com.example.employeemanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class DuplicateEmailException extends ConflictException {
+    public DuplicateEmailException() {
+        super("Email already in use");
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.employeemanagement.json;
+
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes {@link EmployeeResponseDTO} and collections of them as JSON with an
+ * {@link EmployeeJsonWriter} instead of Jackson, producing the same bytes. Registered ahead of the
+ * Jackson converter, it takes only these payloads; everything else, and all request bodies, is
+ * still handled by Jackson. Writers are pooled so their buffers are reused across responses.
+ * <p>
+ * The writer has one fixed format, Jackson's defaults, and knows nothing of {@code spring.jackson.*}
+ * or other mapper customizations. The converter therefore compares its output with the application's
+ * mapper on start-up and, when they differ (indented output, omitted nulls, a naming strategy...),
+ * declines every payload so that Jackson writes them as configured.
+ */
+public class EmployeeJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeJsonHttpMessageConverter.class);
+
+    private static final int POOL_SIZE = 64;
+
+    private final BlockingQueue<EmployeeJsonWriter> writers = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final boolean enabled;
+
+    public EmployeeJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.enabled = writesLike(objectMapper);
+        if (!enabled) {
+            log.info("The JSON mapper is customized; employee responses are written by Jackson");
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return enabled && clazz == EmployeeResponseDTO.class;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type == null) {
+            return canWrite(clazz, mediaType);
+        }
+        return enabled && canWrite(mediaType) && isEmployeePayload(ResolvableType.forType(type));
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        EmployeeJsonWriter writer = writers.poll();
+        if (writer == null) {
+            writer = new EmployeeJsonWriter();
+        }
+        try {
+            writer.open(outputMessage.getBody());
+            if (body instanceof EmployeeResponseDTO employee) {
+                writer.write(employee);
+            } else {
+                writer.writeArray((Collection<EmployeeResponseDTO>) body);
+            }
+            writer.flush();
+        } finally {
+            writer.release();
+            writers.offer(writer);
+        }
+    }
+
+    // canRead is always false, so these are only reached when called directly
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Employee JSON converter does not read request bodies", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        return readInternal(Object.class, inputMessage);
+    }
+
+    // Whether the mapper writes a list of sample employees, covering nulls, escapes and both number
+    // forms, byte for byte as the writer does
+    private static boolean writesLike(ObjectMapper objectMapper) {
+        List<EmployeeResponseDTO> samples = List.of(
+                new EmployeeResponseDTO(1L, "Zoë \"Q\"", "O'Brien\t\u0001", "zoe@example.com", "R&D", 1234.5, "Dev"),
+                new EmployeeResponseDTO(2L, null, null, null, null, 1.0E7, null),
+                new EmployeeResponseDTO());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            EmployeeJsonWriter writer = new EmployeeJsonWriter();
+            writer.open(out);
+            writer.writeArray(samples);
+            writer.flush();
+            return Arrays.equals(out.toByteArray(), objectMapper.writeValueAsBytes(samples));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // Exactly the DTO or a collection declared to hold it; subclasses could carry more properties
+    private static boolean isEmployeePayload(ResolvableType type) {
+        Class<?> rawType = type.resolve();
+        if (rawType == EmployeeResponseDTO.class) {
+            return true;
+        }
+        return rawType != null && Collection.class.isAssignableFrom(rawType)
+                && type.asCollection().resolveGeneric(0) == EmployeeResponseDTO.class;
+    }
+}
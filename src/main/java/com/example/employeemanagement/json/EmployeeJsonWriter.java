@@ -0,0 +1,281 @@
+package com.example.employeemanagement.json;
+
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.model.Employee;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes employees as JSON straight from their getters into a reusable byte buffer, which is
+ * passed to the target stream whenever it fills up. The output is byte-for-byte what the
+ * application's Jackson mapper writes for an {@link EmployeeResponseDTO}: the same property order,
+ * nulls written as {@code null}, Jackson's string escaping and numbers as {@link Double#toString}
+ * prints them. Entities are written as the DTO mapped from them would be, without creating it.
+ * <p>
+ * A writer is not thread-safe; each thread takes its own, for example from a pool.
+ */
+public final class EmployeeJsonWriter {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] FIRST_NAME = ascii(",\"firstName\":");
+    private static final byte[] LAST_NAME = ascii(",\"lastName\":");
+    private static final byte[] EMAIL = ascii(",\"email\":");
+    private static final byte[] DEPARTMENT = ascii(",\"department\":");
+    private static final byte[] SALARY = ascii(",\"salary\":");
+    private static final byte[] POSITION = ascii(",\"position\":");
+    private static final byte[] FULL_NAME = ascii(",\"fullName\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    // How Jackson escapes ASCII: 0 as is, -1 as a backslash-u escape, otherwise the character after a backslash
+    private static final int[] ESCAPES = new int[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = -1;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+    }
+
+    private final byte[] buffer;
+    private OutputStream out;
+    private int position;
+
+    public EmployeeJsonWriter() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public EmployeeJsonWriter(int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE);
+        }
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Start writing to {@code out}, dropping anything still buffered for the previous stream
+     */
+    public void open(OutputStream out) {
+        this.out = out;
+        this.position = 0;
+    }
+
+    /**
+     * Forget the stream and anything still buffered for it, so the writer can be reused
+     */
+    public void release() {
+        open(null);
+    }
+
+    public void writeArray(Iterable<EmployeeResponseDTO> employees) throws IOException {
+        writeByte('[');
+        boolean first = true;
+        for (EmployeeResponseDTO employee : employees) {
+            if (!first) {
+                writeByte(',');
+            }
+            first = false;
+            write(employee);
+        }
+        writeByte(']');
+    }
+
+    public void write(EmployeeResponseDTO employee) throws IOException {
+        if (employee == null) {
+            writeBytes(NULL);
+            return;
+        }
+        writeFields(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getDepartment(), employee.getSalary(), employee.getPosition());
+        writeString(employee.getFullName());
+        writeByte('}');
+    }
+
+    public void write(Employee employee) throws IOException {
+        if (employee == null) {
+            writeBytes(NULL);
+            return;
+        }
+        writeFields(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getDepartment(), employee.getSalary(), employee.getPosition());
+        // The full name as EmployeeResponseDTO's constructor joins it, missing names included
+        writeByte('"');
+        writeStringContent(String.valueOf(employee.getFirstName()));
+        writeByte(' ');
+        writeStringContent(String.valueOf(employee.getLastName()));
+        writeByte('"');
+        writeByte('}');
+    }
+
+    public void writeNewline() throws IOException {
+        writeByte('\n');
+    }
+
+    /**
+     * Pass everything buffered to the stream and flush it
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    // Everything up to and including the name of the fullName property
+    private void writeFields(Long id, String firstName, String lastName, String email, String department,
+                             Double salary, String position) throws IOException {
+        writeBytes(ID);
+        if (id == null) {
+            writeBytes(NULL);
+        } else {
+            writeLong(id);
+        }
+        writeBytes(FIRST_NAME);
+        writeString(firstName);
+        writeBytes(LAST_NAME);
+        writeString(lastName);
+        writeBytes(EMAIL);
+        writeString(email);
+        writeBytes(DEPARTMENT);
+        writeString(department);
+        writeBytes(SALARY);
+        writeDouble(salary);
+        writeBytes(POSITION);
+        writeString(position);
+        writeBytes(FULL_NAME);
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    private void writeDouble(Double value) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+        double d = value;
+        if (d >= 1 && d < 1e7 && d == Math.rint(d)) {
+            // Double.toString prints whole numbers in this range as their digits and ".0"
+            writeLong((long) d);
+            writeByte('.');
+            writeByte('0');
+        } else if (Double.isFinite(d)) {
+            writeAscii(Double.toString(d));
+        } else {
+            // Jackson quotes NaN and the infinities
+            writeByte('"');
+            writeAscii(Double.toString(d));
+            writeByte('"');
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+        writeByte('"');
+        writeStringContent(value);
+        writeByte('"');
+    }
+
+    private void writeStringContent(String value) throws IOException {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            // Six bytes fit the longest escape
+            ensureCapacity(6);
+            if (c < 0x80) {
+                int escape = ESCAPES[c];
+                if (escape == 0) {
+                    buffer[position++] = (byte) c;
+                } else if (escape > 0) {
+                    buffer[position++] = '\\';
+                    buffer[position++] = (byte) escape;
+                } else {
+                    writeUnicodeEscape(c);
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Jackson escapes each half of a surrogate pair instead of encoding the code point
+                writeUnicodeEscape(c);
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeUnicodeEscape(char c) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = HEX[(c >> 12) & 0xF];
+        buffer[position++] = HEX[(c >> 8) & 0xF];
+        buffer[position++] = HEX[(c >> 4) & 0xF];
+        buffer[position++] = HEX[c & 0xF];
+    }
+
+    private void writeAscii(String value) throws IOException {
+        ensureCapacity(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(int b) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
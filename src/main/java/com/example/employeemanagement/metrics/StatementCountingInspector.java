@@ -0,0 +1,53 @@
+package com.example.employeemanagement.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * The counter is reset and read by {@link StatementCountInterceptor} around each request.
+ * <p>
+ * Work a request hands to another thread is only counted if the task is wrapped with
+ * {@link #propagate}, as the parallel shard reads are. Statements of work that outlives the request
+ * or serves several requests at once (async exports, SSE streams, the group-commit writer) are not
+ * attributed to any request.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNT = ThreadLocal.withInitial(AtomicInteger::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get().incrementAndGet();
+        return sql;
+    }
+
+    /**
+     * Start a new count on the current thread; tasks still carrying the previous one no longer add to it
+     */
+    public static void reset() {
+        COUNT.set(new AtomicInteger());
+    }
+
+    public static int current() {
+        return COUNT.get().get();
+    }
+
+    /**
+     * Wrap a task so that statements it runs on another thread add to the current thread's count
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        AtomicInteger count = COUNT.get();
+        return () -> {
+            AtomicInteger previous = COUNT.get();
+            COUNT.set(count);
+            try {
+                return task.call();
+            } finally {
+                COUNT.set(previous);
+            }
+        };
+    }
+}
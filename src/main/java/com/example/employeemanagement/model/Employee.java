@@ -6,14 +6,29 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", uniqueConstraints = {
+        @UniqueConstraint(name = Employee.EMAIL_CONSTRAINT, columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_employees_last_name_id", columnList = "lastName, id"),
+        @Index(name = "idx_employees_department_id", columnList = "department, id"),
+        @Index(name = "idx_employees_department_last_name_id", columnList = "department, lastName, id")
+})
+// UPDATEs set only the columns that changed, so that a PUT changing one field writes one column
+@DynamicUpdate
 @Schema(description = "Employee entity representing an employee in the system")
 public class Employee {
 
+    // Named so that a violation can be told apart from other integrity errors
+    public static final String EMAIL_CONSTRAINT = "uk_employees_email";
+
+    // Sequence with a pooled optimizer: ids are handed out in blocks of 50 without a round trip
+    // per insert, which is what lets Hibernate group inserts into JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
     @Schema(description = "Unique identifier of the employee", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
     private Long id;
 
@@ -29,7 +44,7 @@ public class Employee {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     @Schema(description = "Email address of the employee", example = "john.doe@company.com", required = true)
     private String email;
 
@@ -47,6 +62,12 @@ public class Employee {
     @Schema(description = "Job position/title of the employee", example = "Software Engineer", required = true)
     private String position;
 
+    // Optimistic locking: incremented on every update and checked in the UPDATE's WHERE clause
+    @Version
+    @Column(nullable = false)
+    @Schema(description = "Version used for optimistic locking and ETags", example = "0", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -104,6 +125,14 @@ public class Employee {
         this.position = position;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Constructors
     public Employee() {
     }
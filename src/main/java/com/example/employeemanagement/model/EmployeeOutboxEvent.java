@@ -0,0 +1,110 @@
+package com.example.employeemanagement.model;
+
+import com.example.employeemanagement.event.EmployeeChangeType;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Transactional outbox row. Written in the same transaction as the employee change; the
+ * change feed publisher later assigns it a gap-free, monotonically increasing offset.
+ */
+@Entity
+@Table(name = "employee_outbox", indexes = {
+        @Index(name = "idx_employee_outbox_offset", columnList = "publishedOffset", unique = true)
+})
+public class EmployeeOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_outbox_seq")
+    @SequenceGenerator(name = "employee_outbox_seq", sequenceName = "employee_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmployeeChangeType type;
+
+    private Long employeeId;
+
+    private String department;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    // Null until published
+    private Long publishedOffset;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public EmployeeChangeType getType() {
+        return type;
+    }
+
+    public void setType(EmployeeChangeType type) {
+        this.type = type;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getPublishedOffset() {
+        return publishedOffset;
+    }
+
+    public void setPublishedOffset(Long publishedOffset) {
+        this.publishedOffset = publishedOffset;
+    }
+
+    // Constructors
+    public EmployeeOutboxEvent() {
+    }
+
+    public EmployeeOutboxEvent(EmployeeChangeType type, Long employeeId, String department, String payload,
+                               Instant occurredAt) {
+        this.type = type;
+        this.employeeId = employeeId;
+        this.department = department;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+}
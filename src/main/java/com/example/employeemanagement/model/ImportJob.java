@@ -0,0 +1,129 @@
+package com.example.employeemanagement.model;
+
+import com.example.employeemanagement.dto.ExportFormat;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Progress of one bulk import. The counters are updated in the same transaction as each
+ * chunk of employees, so committedRows is always the last source row that is safely stored.
+ */
+@Entity
+@Table(name = "import_job")
+public class ImportJob {
+
+    public static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ExportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportJobStatus status;
+
+    // Source rows (excluding the CSV header) processed and committed, imported or not
+    private long committedRows;
+
+    private long importedRows;
+
+    private long failedRows;
+
+    @Column(length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ExportFormat format) {
+        this.format = format;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportJobStatus status) {
+        this.status = status;
+    }
+
+    public long getCommittedRows() {
+        return committedRows;
+    }
+
+    public void setCommittedRows(long committedRows) {
+        this.committedRows = committedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Constructors
+    public ImportJob() {
+    }
+
+    public ImportJob(ExportFormat format, Instant createdAt) {
+        this.format = format;
+        this.status = ImportJobStatus.RUNNING;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+}
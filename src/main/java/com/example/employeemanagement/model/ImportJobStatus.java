@@ -0,0 +1,7 @@
+package com.example.employeemanagement.model;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,70 @@
+package com.example.employeemanagement.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "import_row_error", indexes = {
+        @Index(name = "idx_import_row_error_job", columnList = "jobId, rowNumber")
+})
+public class ImportRowError {
+
+    public static final int MAX_MESSAGE_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_row_error_seq")
+    @SequenceGenerator(name = "import_row_error_seq", sequenceName = "import_row_error_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    // 1-based data row of the source, not counting the CSV header
+    @Column(nullable = false)
+    private long rowNumber;
+
+    @Column(nullable = false, length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public void setRowNumber(long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    // Constructors
+    public ImportRowError() {
+    }
+
+    public ImportRowError(Long jobId, long rowNumber, String message) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.message = message;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.employeemanagement.replica;
+
+import com.example.employeemanagement.event.EmployeeChangeType;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * An {@link EmployeeView} loaded from a full read of the table and then kept current from
+ * committed changes, which its owner passes to {@link #apply}. Changes committed while a load
+ * reads the table are held back and replayed onto the new view once the read finishes.
+ * <p>
+ * Single-employee changes carry versions, so replaying one the new view already contains is
+ * harmless. A bulk update does not name the employees and may multiply salaries, so it cannot be
+ * replayed safely: the load reads the table again, and once every attempt has overlapped one,
+ * keeps the current view and tries again later.
+ */
+public final class EmployeeSnapshot<T extends EmployeeView> {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSnapshot.class);
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final Duration LOAD_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final String name;
+    private final IntFunction<T> newView;
+    private final EmployeeTableReader tableReader;
+    private final TaskScheduler taskScheduler;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private T view;
+    // Changes committed while a load is running
+    private List<EmployeeChangedEvent> pending;
+    private volatile boolean loaded;
+
+    /**
+     * @param name    what the view is, for logging
+     * @param newView creates an empty view sized for the given number of employees
+     */
+    public EmployeeSnapshot(String name, IntFunction<T> newView, EmployeeTableReader tableReader,
+                            TaskScheduler taskScheduler) {
+        this.name = name;
+        this.newView = newView;
+        this.tableReader = tableReader;
+        this.taskScheduler = taskScheduler;
+        this.view = newView.apply(0);
+    }
+
+    /**
+     * False until the first load has finished
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Run the reader against the current view while changes are held off
+     */
+    public <R> R read(Function<T, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(view);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void apply(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(event);
+            } else {
+                apply(view, event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the view with a fresh read of the table
+     */
+    public void load() {
+        long started = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            T loadedView = tableReader.read(newView);
+
+            lock.writeLock().lock();
+            try {
+                if (pending.stream().anyMatch(event -> event.getType() == EmployeeChangeType.BULK_UPDATED)) {
+                    if (attempt < MAX_LOAD_ATTEMPTS) {
+                        continue;
+                    }
+                    // The current view was read before these changes, so they apply to it exactly once
+                    for (EmployeeChangedEvent event : pending) {
+                        apply(view, event);
+                    }
+                    pending = null;
+                    log.warn("Bulk updates overlapped {} loads of the {}; trying again in {}",
+                            MAX_LOAD_ATTEMPTS, name, LOAD_RETRY_DELAY);
+                    taskScheduler.schedule(this::load, Instant.now().plus(LOAD_RETRY_DELAY));
+                    return;
+                }
+                for (EmployeeChangedEvent event : pending) {
+                    apply(loadedView, event);
+                }
+                pending = null;
+                view = loadedView;
+                loaded = true;
+                log.info("Loaded {} employees into the {} in {} ms",
+                        loadedView.size(), name, (System.nanoTime() - started) / 1_000_000);
+                return;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void apply(T target, EmployeeChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                target.upsert(event.getCurrent());
+                break;
+            case DELETED:
+                target.remove(event.getEmployeeId());
+                break;
+            case BULK_UPDATED:
+                target.updateDepartment(event.getDepartment(), event.getBulkUpdate());
+                break;
+            case BULK_DELETED:
+                target.removeDepartment(event.getDepartment());
+                break;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.employeemanagement.replica;
+
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Reads every employee of every shard into a new {@link EmployeeView}
+ */
+@Component
+public class EmployeeTableReader {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmployeeTableReader(EmployeeRepository employeeRepository, EmployeeShards shards,
+                               EmployeeMapper employeeMapper, EntityManager entityManager,
+                               TransactionTemplate transactionTemplate) {
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * @param newView creates an empty view sized for the given number of employees
+     */
+    public <T extends EmployeeView> T read(IntFunction<T> newView) {
+        long rows = shards.onEveryShard(shard -> employeeRepository.count()).stream().mapToLong(Long::longValue).sum();
+        T view = newView.apply(Math.toIntExact(rows));
+        shards.forEachShard(shard -> transactionTemplate.executeWithoutResult(status -> readTable(view)));
+        view.trimToSize();
+        return view;
+    }
+
+    private void readTable(EmployeeView view) {
+        // Detached right away so the persistence context does not grow with the table
+        try (Stream<Employee> employees = employeeRepository.streamAllOrderById()) {
+            employees.forEach(employee -> {
+                view.upsert(employeeMapper.toResponseDTO(employee));
+                entityManager.detach(employee);
+            });
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.employeemanagement.replica;
+
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+
+/**
+ * In-memory structure over all employees that an {@link EmployeeSnapshot} builds from the table
+ * and keeps current from committed changes. Implementations need not be thread-safe.
+ */
+public interface EmployeeView {
+
+    /**
+     * Number of employees held
+     */
+    int size();
+
+    /**
+     * Insert the employee, or overwrite it when its version is newer than the held one
+     *
+     * @return false when the same or a newer version is already held
+     */
+    boolean upsert(EmployeeResponseDTO employee);
+
+    boolean remove(long id);
+
+    /**
+     * Apply a bulk update of one department the way the UPDATE statement does,
+     * bumping the version of every employee it touches
+     */
+    void updateDepartment(String department, EmployeeBulkUpdateDTO update);
+
+    void removeDepartment(String department);
+
+    /**
+     * Called once the table has been read, before the view is queried
+     */
+    default void trimToSize() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employeemanagement.repository;
+
+/**
+ * One row of the per-department salary GROUP BY
+ */
+public interface DepartmentSalarySummary {
+
+    String getDepartment();
+
+    long getHeadcount();
+
+    double getTotalSalary();
+
+    double getMinSalary();
+
+    double getMaxSalary();
+}
@@ -0,0 +1,33 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.model.EmployeeOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface EmployeeOutboxRepository extends JpaRepository<EmployeeOutboxEvent, Long> {
+
+    @Query("select e from EmployeeOutboxEvent e where e.publishedOffset is null order by e.id")
+    List<EmployeeOutboxEvent> findUnpublished(Limit limit);
+
+    @Query("select coalesce(max(e.publishedOffset), 0) from EmployeeOutboxEvent e")
+    long findMaxPublishedOffset();
+
+    @Query("select min(e.publishedOffset) from EmployeeOutboxEvent e")
+    Long findMinPublishedOffset();
+
+    @Query("select e from EmployeeOutboxEvent e where e.publishedOffset > :offset order by e.publishedOffset")
+    List<EmployeeOutboxEvent> findPublishedAfter(@Param("offset") long offset, Limit limit);
+
+    // Keeps the newest published row so offsets continue from it after a restart
+    @Modifying
+    @Query("delete from EmployeeOutboxEvent e where e.publishedOffset < :maxOffset and e.occurredAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff, @Param("maxOffset") long maxOffset);
+}
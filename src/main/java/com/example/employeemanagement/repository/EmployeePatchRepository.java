@@ -0,0 +1,17 @@
+package com.example.employeemanagement.repository;
+
+import java.util.Map;
+
+/**
+ * Partial updates that write only the given columns, without loading the entity
+ */
+public interface EmployeePatchRepository {
+
+    /**
+     * Set the given attributes and increment the version, if the employee is still at the
+     * expected version
+     *
+     * @return 1 if the employee was updated, 0 if it is gone or at another version
+     */
+    int updateAttributes(Long id, Long expectedVersion, Map<String, Object> values);
+}
@@ -0,0 +1,33 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Map;
+
+class EmployeePatchRepositoryImpl implements EmployeePatchRepository {
+
+    private final EntityManager entityManager;
+
+    EmployeePatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int updateAttributes(Long id, Long expectedVersion, Map<String, Object> values) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> employee = update.from(Employee.class);
+
+        values.forEach(update::set);
+        Path<Long> version = employee.get("version");
+        update.set(version, cb.sum(version, 1L));
+        update.where(cb.equal(employee.get("id"), id), cb.equal(version, expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
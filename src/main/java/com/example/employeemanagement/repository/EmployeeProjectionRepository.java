@@ -0,0 +1,22 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeCursor;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Column-restricted reads that return tuples instead of managed entities
+ */
+public interface EmployeeProjectionRepository {
+
+    /**
+     * Keyset page selecting only the given entity attributes, plus the id and sort key.
+     * Tuple elements are aliased by attribute name.
+     */
+    List<Tuple> findProjectedPage(Set<String> attributes, String department, EmployeeCursor cursor, int limit);
+
+    Optional<Tuple> findProjectedById(Long id, Set<String> attributes);
+}
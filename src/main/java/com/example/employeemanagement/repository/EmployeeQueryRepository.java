@@ -0,0 +1,19 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeQuery;
+import com.example.employeemanagement.model.Employee;
+
+import java.util.List;
+
+/**
+ * Ad-hoc filtered reads built from an {@link EmployeeQuery}
+ */
+public interface EmployeeQueryRepository {
+
+    /**
+     * The first {@code query.getLimit()} matching employees in query order
+     */
+    List<Employee> findMatching(EmployeeQuery query);
+
+    long countMatching(EmployeeQuery query);
+}
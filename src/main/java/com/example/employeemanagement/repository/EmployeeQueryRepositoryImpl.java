@@ -0,0 +1,74 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeQuery;
+import com.example.employeemanagement.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class EmployeeQueryRepositoryImpl implements EmployeeQueryRepository {
+
+    private final EntityManager entityManager;
+
+    EmployeeQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Employee> findMatching(EmployeeQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> criteria = cb.createQuery(Employee.class);
+        Root<Employee> employee = criteria.from(Employee.class);
+        criteria.where(predicates(cb, employee, query));
+
+        Path<Long> id = employee.get("id");
+        Path<Double> salary = employee.get("salary");
+        switch (query.getSort()) {
+            case SALARY:
+                criteria.orderBy(cb.asc(salary), cb.asc(id));
+                break;
+            case SALARY_DESC:
+                criteria.orderBy(cb.desc(salary), cb.asc(id));
+                break;
+            default:
+                criteria.orderBy(cb.asc(id));
+                break;
+        }
+
+        return entityManager.createQuery(criteria)
+                .setMaxResults(query.getLimit())
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(EmployeeQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = cb.createQuery(Long.class);
+        Root<Employee> employee = criteria.from(Employee.class);
+        criteria.select(cb.count(employee)).where(predicates(cb, employee, query));
+        return entityManager.createQuery(criteria).getSingleResult();
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Employee> employee, EmployeeQuery query) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.getMinSalary() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(employee.get("salary"), query.getMinSalary()));
+        }
+        if (query.getMaxSalary() != null) {
+            predicates.add(cb.lessThanOrEqualTo(employee.get("salary"), query.getMaxSalary()));
+        }
+        if (!query.getDepartments().isEmpty()) {
+            predicates.add(employee.get("department").in(query.getDepartments()));
+        }
+        if (!query.getPositions().isEmpty()) {
+            predicates.add(employee.get("position").in(query.getPositions()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
@@ -1,13 +1,114 @@
 package com.example.employeemanagement.repository;
 
 import com.example.employeemanagement.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeProjectionRepository,
+        EmployeeQueryRepository, EmployeePatchRepository {
+    String EXPORT_FETCH_SIZE = "500";
+
     List<Employee> findByDepartment(String department);
     boolean existsByEmail(String email);
+
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select e.email from Employee e where e.department = :department")
+    List<String> findEmailsByDepartment(@Param("department") String department);
+
+    @Query("select e from Employee e order by e.id")
+    List<Employee> findAllOrderById();
+
+    // Keyset (seek) queries: each one continues strictly after the (sortKey, id) of the previous page,
+    // so the database walks an index from the cursor instead of skipping over an OFFSET. The leading
+    // sortKey >= bound is implied by the OR after it, but the OR alone gives H2 no index range to
+    // start from, and it would scan every row before the cursor. Department pages also order by the
+    // (constant) department, or H2 does not see that the (department, ...) index is already sorted.
+
+    @Query("select e from Employee e where e.id > :afterId order by e.id")
+    List<Employee> findPageOrderById(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select e from Employee e"
+            + " where e.lastName >= :afterLastName and (e.lastName > :afterLastName or e.id > :afterId)"
+            + " order by e.lastName, e.id")
+    List<Employee> findPageOrderByLastName(@Param("afterLastName") String afterLastName,
+                                           @Param("afterId") Long afterId, Limit limit);
+
+    @Query("select e from Employee e"
+            + " where e.department >= :afterDepartment and (e.department > :afterDepartment or e.id > :afterId)"
+            + " order by e.department, e.id")
+    List<Employee> findPageOrderByDepartment(@Param("afterDepartment") String afterDepartment,
+                                             @Param("afterId") Long afterId, Limit limit);
+
+    @Query("select e from Employee e where e.department = :department and e.id > :afterId"
+            + " order by e.department, e.id")
+    List<Employee> findDepartmentPageOrderById(@Param("department") String department,
+                                               @Param("afterId") Long afterId, Limit limit);
+
+    @Query("select e from Employee e where e.department = :department"
+            + " and e.lastName >= :afterLastName and (e.lastName > :afterLastName or e.id > :afterId)"
+            + " order by e.department, e.lastName, e.id")
+    List<Employee> findDepartmentPageOrderByLastName(@Param("department") String department,
+                                                     @Param("afterLastName") String afterLastName,
+                                                     @Param("afterId") Long afterId, Limit limit);
+
+    // Forward-only cursor over the whole table; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Employee e order by e.id")
+    Stream<Employee> streamAllOrderById();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e.email from Employee e")
+    Stream<String> streamAllEmails();
+
+    // Single-statement writes: no entities are loaded, the persistence context is flushed before
+    // and cleared after so it cannot hold stale copies of the changed rows
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Employee e set"
+            + " e.department = coalesce(:newDepartment, e.department),"
+            + " e.position = coalesce(:position, e.position),"
+            + " e.salary = coalesce(:salary, e.salary) * :salaryFactor,"
+            + " e.version = e.version + 1"
+            + " where e.department = :department")
+    int updateByDepartment(@Param("department") String department,
+                           @Param("newDepartment") String newDepartment,
+                           @Param("position") String position,
+                           @Param("salary") Double salary,
+                           @Param("salaryFactor") double salaryFactor);
+
+    @Query("select e.department as department, count(e) as headcount, sum(e.salary) as totalSalary,"
+            + " min(e.salary) as minSalary, max(e.salary) as maxSalary"
+            + " from Employee e group by e.department")
+    List<DepartmentSalarySummary> summarizeSalariesByDepartment();
+
+    @Query("select e.salary from Employee e where e.department = :department order by e.salary")
+    List<Double> findSalariesByDepartmentOrderBySalary(@Param("department") String department);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Employee e where e.department = :department")
+    int deleteByDepartmentInBulk(@Param("department") String department);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Employee e where e.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
 }
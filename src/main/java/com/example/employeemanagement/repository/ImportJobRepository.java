@@ -0,0 +1,22 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.model.ImportJob;
+import com.example.employeemanagement.model.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // Leaves the progress counters alone; they are owned by the writer's chunk transactions
+    @Modifying(clearAutomatically = true)
+    @Query("update ImportJob j set j.status = :status, j.errorMessage = :errorMessage, j.updatedAt = :updatedAt " +
+            "where j.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") ImportJobStatus status,
+                     @Param("errorMessage") String errorMessage, @Param("updatedAt") Instant updatedAt);
+}
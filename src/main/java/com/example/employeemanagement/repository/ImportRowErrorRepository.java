@@ -0,0 +1,16 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.model.ImportRowError;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportRowErrorRepository extends JpaRepository<ImportRowError, Long> {
+
+    List<ImportRowError> findByJobIdOrderByRowNumber(Long jobId, Limit limit);
+
+    long countByJobId(Long jobId);
+}
@@ -0,0 +1,95 @@
+package com.example.employeemanagement.search;
+
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+
+/**
+ * The searchable fields of one employee, normalized and joined into a single string so that a
+ * candidate can be checked against further query terms without tokenizing or allocating
+ */
+final class EmployeeDocument {
+
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final long version;
+    private final String department;
+    private final String text;
+
+    private EmployeeDocument(long version, String department, String text) {
+        this.version = version;
+        this.department = department;
+        this.text = text;
+    }
+
+    static EmployeeDocument of(EmployeeResponseDTO employee, String department) {
+        StringBuilder text = new StringBuilder();
+        for (SearchField field : SearchField.values()) {
+            if (field.ordinal() > 0) {
+                text.append(FIELD_SEPARATOR);
+            }
+            text.append(SearchTokenizer.normalize(field.valueOf(employee)));
+        }
+        return new EmployeeDocument(employee.getVersion() == null ? 0 : employee.getVersion(), department,
+                text.toString());
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    String getDepartment() {
+        return department;
+    }
+
+    /**
+     * Normalized value of one field
+     */
+    String field(SearchField field) {
+        int start = 0;
+        for (int i = 0; i < field.ordinal(); i++) {
+            start = text.indexOf(FIELD_SEPARATOR, start) + 1;
+        }
+        int end = text.indexOf(FIELD_SEPARATOR, start);
+        return text.substring(start, end < 0 ? text.length() : end);
+    }
+
+    /**
+     * Copy with the changes of a bulk update; a null position keeps the current one
+     */
+    EmployeeDocument withBulkUpdate(String newDepartment, String newPosition) {
+        String updatedText = text;
+        if (newPosition != null) {
+            int positionStart = text.lastIndexOf(FIELD_SEPARATOR) + 1;
+            updatedText = text.substring(0, positionStart) + SearchTokenizer.normalize(newPosition);
+        }
+        return new EmployeeDocument(version + 1, newDepartment, updatedText);
+    }
+
+    /**
+     * Best score of a normalized term against the tokens of this document
+     *
+     * @return 0 when no token starts with the term
+     */
+    int score(String term) {
+        int best = 0;
+        int field = 0;
+        boolean tokenStart = true;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                field++;
+                tokenStart = true;
+            } else if (!SearchTokenizer.isTokenChar(c)) {
+                tokenStart = true;
+            } else if (tokenStart) {
+                tokenStart = false;
+                if (text.startsWith(term, i)) {
+                    int end = i + term.length();
+                    boolean exact = end == length || !SearchTokenizer.isTokenChar(text.charAt(end));
+                    best = Math.max(best, SearchField.ofOrdinal(field).score(exact));
+                }
+            }
+        }
+        return best;
+    }
+}
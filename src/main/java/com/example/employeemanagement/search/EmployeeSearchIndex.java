@@ -0,0 +1,87 @@
+package com.example.employeemanagement.search;
+
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.replica.EmployeeSnapshot;
+import com.example.employeemanagement.replica.EmployeeTableReader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * In-process inverted index over first name, last name, email and position for type-ahead search,
+ * held as an {@link EmployeeSnapshot} and rebuilt every refresh interval to discard drift.
+ */
+@Component
+public class EmployeeSearchIndex implements MeterBinder {
+
+    /**
+     * Query terms beyond this many are ignored
+     */
+    public static final int MAX_TERMS = 8;
+
+    private final EmployeeSnapshot<InvertedIndex> index;
+
+    public EmployeeSearchIndex(EmployeeTableReader tableReader, TaskScheduler taskScheduler) {
+        this.index = new EmployeeSnapshot<>("search index", expectedRows -> new InvertedIndex(), tableReader,
+                taskScheduler);
+    }
+
+    /**
+     * False until the first load has finished
+     */
+    public boolean isLoaded() {
+        return index.isLoaded();
+    }
+
+    /**
+     * Ids of the best {@code maxResults} employees with, for every term of the query, a token of
+     * one of the searchable fields starting with that term
+     *
+     * @return no hits when the query has no terms
+     */
+    public SearchHits search(String query, int maxResults) {
+        List<String> terms = SearchTokenizer.tokenize(SearchTokenizer.normalize(query));
+        if (terms.isEmpty()) {
+            return SearchHits.none();
+        }
+        List<String> searched = terms.size() > MAX_TERMS ? terms.subList(0, MAX_TERMS) : terms;
+        return index.read(snapshot -> snapshot.search(searched, maxResults));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        index.apply(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        index.load();
+    }
+
+    /**
+     * Rebuild the index from the table to discard any drift
+     */
+    @Scheduled(initialDelayString = "${employee.search.refresh-interval:PT1H}",
+            fixedDelayString = "${employee.search.refresh-interval:PT1H}")
+    public void refresh() {
+        index.load();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.search.documents", this, search -> search.index.read(InvertedIndex::size))
+                .description("Employees in the search index")
+                .register(registry);
+        Gauge.builder("employee.search.tokens", this, search -> search.index.read(InvertedIndex::tokenCount))
+                .description("Distinct tokens in the search index")
+                .register(registry);
+    }
+}
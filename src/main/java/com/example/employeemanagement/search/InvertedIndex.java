@@ -0,0 +1,256 @@
+package com.example.employeemanagement.search;
+
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.replica.EmployeeView;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-field sorted token dictionaries pointing at posting lists, plus the document of every
+ * employee. Sorted dictionaries make a prefix a contiguous key range. Not thread-safe.
+ */
+final class InvertedIndex implements EmployeeView {
+
+    // Candidates ranked for a multi-term query, and postings visited at most to find them
+    private static final int MAX_CANDIDATES = 200;
+    private static final int MAX_VISITED = 10_000;
+    // Matching tokens looked at per field when estimating how many postings a term leads to
+    private static final int ESTIMATE_TOKENS = 256;
+
+    private final Map<SearchField, NavigableMap<String, Postings>> tokens = new EnumMap<>(SearchField.class);
+    private final Map<Long, EmployeeDocument> documents = new HashMap<>();
+    // Departments are only compared, so every document shares one instance per name
+    private final Map<String, String> departments = new HashMap<>();
+
+    InvertedIndex() {
+        for (SearchField field : SearchField.values()) {
+            tokens.put(field, new TreeMap<>());
+        }
+    }
+
+    @Override
+    public int size() {
+        return documents.size();
+    }
+
+    int tokenCount() {
+        int count = 0;
+        for (NavigableMap<String, Postings> fieldTokens : tokens.values()) {
+            count += fieldTokens.size();
+        }
+        return count;
+    }
+
+    @Override
+    public boolean upsert(EmployeeResponseDTO employee) {
+        long version = employee.getVersion() == null ? 0 : employee.getVersion();
+        EmployeeDocument existing = documents.get(employee.getId());
+        if (existing != null) {
+            if (existing.getVersion() >= version) {
+                return false;
+            }
+            unindex(employee.getId(), existing, SearchField.values());
+        }
+        EmployeeDocument document = EmployeeDocument.of(employee,
+                departments.computeIfAbsent(employee.getDepartment(), d -> d));
+        documents.put(employee.getId(), document);
+        index(employee.getId(), document, SearchField.values());
+        return true;
+    }
+
+    @Override
+    public boolean remove(long id) {
+        EmployeeDocument document = documents.remove(id);
+        if (document == null) {
+            return false;
+        }
+        unindex(id, document, SearchField.values());
+        return true;
+    }
+
+    /**
+     * Only department and position affect the index
+     */
+    @Override
+    public void updateDepartment(String department, EmployeeBulkUpdateDTO update) {
+        String newDepartment = update.getDepartment();
+        String position = update.getPosition();
+        String target = departments.computeIfAbsent(newDepartment == null ? department : newDepartment, d -> d);
+        SearchField[] changed = position == null ? new SearchField[0] : new SearchField[]{SearchField.POSITION};
+        for (Map.Entry<Long, EmployeeDocument> entry : documents.entrySet()) {
+            EmployeeDocument document = entry.getValue();
+            if (document.getDepartment().equals(department)) {
+                EmployeeDocument updated = document.withBulkUpdate(target, position);
+                unindex(entry.getKey(), document, changed);
+                index(entry.getKey(), updated, changed);
+                entry.setValue(updated);
+            }
+        }
+    }
+
+    @Override
+    public void removeDepartment(String department) {
+        Iterator<Map.Entry<Long, EmployeeDocument>> iterator = documents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, EmployeeDocument> entry = iterator.next();
+            if (entry.getValue().getDepartment().equals(department)) {
+                unindex(entry.getKey(), entry.getValue(), SearchField.values());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Ids of employees having, for every term, a token starting with it, best matches first.
+     * <p>
+     * Candidates come from the postings of the term that leads to the fewest of them, walked in
+     * descending score of that term: exact matches before prefix matches, fields by weight, tokens
+     * alphabetically, ids ascending. A single term is therefore already in rank order. With several
+     * terms the other terms are checked against each candidate's document and the first
+     * {@value #MAX_CANDIDATES} candidates (or {@code maxResults}, if more) are ranked by total score.
+     * If {@value #MAX_VISITED} postings are visited before that many candidates are found, the walk
+     * stops there and the hits are marked truncated: matches further along are missing.
+     */
+    SearchHits search(List<String> terms, int maxResults) {
+        int driverIndex = 0;
+        if (terms.size() > 1) {
+            int fewest = Integer.MAX_VALUE;
+            for (int i = 0; i < terms.size(); i++) {
+                int estimate = estimatePostings(terms.get(i));
+                if (estimate < fewest || (estimate == fewest && terms.get(i).length() > terms.get(driverIndex).length())) {
+                    fewest = estimate;
+                    driverIndex = i;
+                }
+            }
+        }
+        String driver = terms.get(driverIndex);
+        int wanted = terms.size() == 1 ? maxResults : Math.max(maxResults, MAX_CANDIDATES);
+        List<Candidate> candidates = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        int visited = 0;
+        boolean truncated = false;
+
+        walk:
+        for (boolean exact : new boolean[]{true, false}) {
+            for (SearchField field : SearchField.values()) {
+                NavigableMap<String, Postings> fieldTokens = tokens.get(field);
+                Iterable<Postings> matches;
+                if (exact) {
+                    Postings postings = fieldTokens.get(driver);
+                    matches = postings == null ? List.of() : List.of(postings);
+                } else {
+                    matches = fieldTokens.subMap(driver, false, driver + Character.MAX_VALUE, false).values();
+                }
+                for (Postings postings : matches) {
+                    for (int i = 0; i < postings.size(); i++) {
+                        if (candidates.size() >= wanted) {
+                            break walk;
+                        }
+                        if (++visited > MAX_VISITED) {
+                            truncated = true;
+                            break walk;
+                        }
+                        long id = postings.get(i);
+                        if (!seen.add(id)) {
+                            continue;
+                        }
+                        int score = score(documents.get(id), terms, driverIndex, field.score(exact));
+                        if (score > 0) {
+                            candidates.add(new Candidate(id, score));
+                        }
+                    }
+                }
+            }
+        }
+
+        // Stable, so equal scores keep the walk order
+        candidates.sort((a, b) -> Integer.compare(b.score, a.score));
+        List<Long> ids = new ArrayList<>(Math.min(maxResults, candidates.size()));
+        for (int i = 0; i < candidates.size() && i < maxResults; i++) {
+            ids.add(candidates.get(i).id);
+        }
+        return new SearchHits(ids, truncated);
+    }
+
+    /**
+     * Postings of the whole tokens equal to the term and of the first tokens starting with it,
+     * capped at the number of postings a search visits at most
+     */
+    private int estimatePostings(String term) {
+        int count = 0;
+        for (SearchField field : SearchField.values()) {
+            NavigableMap<String, Postings> fieldTokens = tokens.get(field);
+            Postings exact = fieldTokens.get(term);
+            if (exact != null) {
+                count += exact.size();
+            }
+            int examined = 0;
+            for (Postings postings : fieldTokens.subMap(term, false, term + Character.MAX_VALUE, false).values()) {
+                if (count >= MAX_VISITED || ++examined > ESTIMATE_TOKENS) {
+                    break;
+                }
+                count += postings.size();
+            }
+            if (count >= MAX_VISITED) {
+                return MAX_VISITED;
+            }
+        }
+        return count;
+    }
+
+    private static int score(EmployeeDocument document, List<String> terms, int driverIndex, int driverScore) {
+        int total = driverScore;
+        for (int i = 0; i < terms.size(); i++) {
+            if (i != driverIndex) {
+                int score = document.score(terms.get(i));
+                if (score == 0) {
+                    return 0;
+                }
+                total += score;
+            }
+        }
+        return total;
+    }
+
+    private void index(long id, EmployeeDocument document, SearchField[] fields) {
+        for (SearchField field : fields) {
+            NavigableMap<String, Postings> fieldTokens = tokens.get(field);
+            for (String token : SearchTokenizer.tokenize(document.field(field))) {
+                fieldTokens.computeIfAbsent(token, t -> new Postings()).add(id);
+            }
+        }
+    }
+
+    private void unindex(long id, EmployeeDocument document, SearchField[] fields) {
+        for (SearchField field : fields) {
+            NavigableMap<String, Postings> fieldTokens = tokens.get(field);
+            for (String token : SearchTokenizer.tokenize(document.field(field))) {
+                Postings postings = fieldTokens.get(token);
+                if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                    fieldTokens.remove(token);
+                }
+            }
+        }
+    }
+
+    private static final class Candidate {
+
+        private final long id;
+        private final int score;
+
+        private Candidate(long id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
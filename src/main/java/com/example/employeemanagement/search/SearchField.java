@@ -0,0 +1,40 @@
+package com.example.employeemanagement.search;
+
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+
+import java.util.function.Function;
+
+/**
+ * Searchable employee attributes, in ranking order. A term matching a whole token scores
+ * {@link #EXACT_MATCH} on top of the field weight, so any exact match outranks any prefix match.
+ */
+enum SearchField {
+    LAST_NAME(4, EmployeeResponseDTO::getLastName),
+    FIRST_NAME(3, EmployeeResponseDTO::getFirstName),
+    EMAIL(2, EmployeeResponseDTO::getEmail),
+    POSITION(1, EmployeeResponseDTO::getPosition);
+
+    static final int EXACT_MATCH = 10;
+
+    private static final SearchField[] FIELDS = values();
+
+    private final int weight;
+    private final Function<EmployeeResponseDTO, String> accessor;
+
+    SearchField(int weight, Function<EmployeeResponseDTO, String> accessor) {
+        this.weight = weight;
+        this.accessor = accessor;
+    }
+
+    int score(boolean exact) {
+        return exact ? EXACT_MATCH + weight : weight;
+    }
+
+    String valueOf(EmployeeResponseDTO employee) {
+        return accessor.apply(employee);
+    }
+
+    static SearchField ofOrdinal(int ordinal) {
+        return FIELDS[ordinal];
+    }
+}
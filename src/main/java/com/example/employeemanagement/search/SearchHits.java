@@ -0,0 +1,32 @@
+package com.example.employeemanagement.search;
+
+import java.util.List;
+
+/**
+ * Ranked ids of a search, and whether the walk over the postings stopped at its bound before every
+ * posting of the driving term had been checked, so that further matches may exist
+ */
+public final class SearchHits {
+
+    private static final SearchHits NONE = new SearchHits(List.of(), false);
+
+    private final List<Long> ids;
+    private final boolean truncated;
+
+    SearchHits(List<Long> ids, boolean truncated) {
+        this.ids = ids;
+        this.truncated = truncated;
+    }
+
+    static SearchHits none() {
+        return NONE;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.employeemanagement.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into lower-case runs of letters and digits, so "Mary-Jane.O'Neil@corp.com" yields
+ * mary, jane, o, neil, corp and com. Indexing and querying share it, so both agree on token bounds.
+ */
+final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * Distinct tokens of already normalized text, in order of first appearance
+     */
+    static List<String> tokenize(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean tokenChar = i < normalized.length() && isTokenChar(normalized.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeChangeDTO;
+import com.example.employeemanagement.model.EmployeeOutboxEvent;
+import com.example.employeemanagement.repository.EmployeeOutboxRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes outbox rows as a resumable change feed over Server-Sent Events.
+ * <p>
+ * A single scheduled publisher assigns each committed outbox row the next offset, so offsets
+ * are gap-free and only ever grow, then hands the published changes to every subscriber.
+ * Each subscriber has a bounded buffer drained in batches on the task executor; a subscriber
+ * whose buffer overflows is dropped and has to reconnect with the last offset it saw.
+ * <p>
+ * With sharding every shard has its own outbox, written by the transactions of that shard. The
+ * publisher numbers them shard after shard from one sequence of offsets, and replays merge them.
+ */
+@Service
+public class EmployeeChangeFeed implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+
+    static final String CHANGES_EVENT = "changes";
+    static final String RESET_EVENT = "reset";
+    static final String DROPPED_EVENT = "dropped";
+
+    private final EmployeeOutboxRepository outboxRepository;
+    private final EmployeeShards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor deliveryExecutor;
+    private final int batchSize;
+    private final int bufferSize;
+    private final Duration emitterTimeout;
+    private final Duration retention;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private Counter droppedSubscribers;
+    // The last offset the publisher has committed; replays read no further, see Subscriber.sendStored()
+    private volatile long publishedOffset;
+
+    public EmployeeChangeFeed(EmployeeOutboxRepository outboxRepository, EmployeeShards shards,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("applicationTaskExecutor") TaskExecutor deliveryExecutor,
+                              @Value("${employee.changes.batch-size:100}") int batchSize,
+                              @Value("${employee.changes.buffer-size:1000}") int bufferSize,
+                              @Value("${employee.changes.emitter-timeout:30m}") Duration emitterTimeout,
+                              @Value("${employee.changes.retention:7d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.shards = shards;
+        this.transactionTemplate = transactionTemplate;
+        this.deliveryExecutor = deliveryExecutor;
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+        this.emitterTimeout = emitterTimeout;
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    public void loadPublishedOffset() {
+        publishedOffset = maxPublishedOffset();
+    }
+
+    /**
+     * Open a feed that first replays every change after {@code since} from the outbox and then
+     * follows live changes. Use 0 to start from the oldest retained change.
+     */
+    public SseEmitter subscribe(long since) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        deliveryExecutor.execute(subscriber::replay);
+        return emitter;
+    }
+
+    /**
+     * Assign offsets to committed outbox rows and fan them out to subscribers
+     */
+    @Scheduled(fixedDelayString = "${employee.changes.publish-interval:PT0.2S}")
+    public void publishPending() {
+        shards.forEachShard(shard -> {
+            List<EmployeeChangeDTO> published;
+            do {
+                published = transactionTemplate.execute(status -> assignOffsets(publishedOffset));
+                if (!published.isEmpty()) {
+                    publishedOffset = published.get(published.size() - 1).getOffset();
+                    broadcast(published);
+                }
+            } while (published.size() == batchSize);
+        });
+    }
+
+    /**
+     * Remove published changes older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${employee.changes.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        long maxOffset = maxPublishedOffset();
+        int deleted = shards.onEveryShard(shard -> transactionTemplate.execute(
+                status -> outboxRepository.deletePublishedBefore(cutoff, maxOffset)))
+                .stream().mapToInt(Integer::intValue).sum();
+        if (deleted > 0) {
+            log.debug("Deleted {} expired change feed events", deleted);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.changes.subscribers", subscribers, Set::size)
+                .description("Open change feed connections")
+                .register(registry);
+        droppedSubscribers = Counter.builder("employee.changes.dropped")
+                .description("Change feed subscribers dropped because their buffer overflowed")
+                .register(registry);
+    }
+
+    private long maxPublishedOffset() {
+        return shards.onEveryShard(shard -> outboxRepository.findMaxPublishedOffset())
+                .stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    private List<EmployeeChangeDTO> assignOffsets(long lastOffset) {
+        List<EmployeeOutboxEvent> pending = outboxRepository.findUnpublished(Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        long offset = lastOffset;
+        List<EmployeeChangeDTO> changes = new ArrayList<>(pending.size());
+        for (EmployeeOutboxEvent event : pending) {
+            event.setPublishedOffset(++offset);
+            changes.add(EmployeeChangeDTO.from(event));
+        }
+        return changes;
+    }
+
+    private void broadcast(List<EmployeeChangeDTO> changes) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(changes);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<EmployeeChangeDTO> buffer = new ArrayBlockingQueue<>(bufferSize);
+        // Held by whichever thread is sending, so batches never interleave
+        private final AtomicBoolean sending = new AtomicBoolean(true);
+        private volatile boolean live;
+        private volatile long lastSentOffset;
+
+        private Subscriber(SseEmitter emitter, long since) {
+            this.emitter = emitter;
+            this.lastSentOffset = since;
+        }
+
+        /**
+         * Send stored changes until caught up, then switch to live delivery. Changes published
+         * before the switch are skipped by offer() and picked up by the final read instead.
+         */
+        private void replay() {
+            try {
+                Long oldest = shards.onEveryShard(shard -> outboxRepository.findMinPublishedOffset())
+                        .stream().filter(Objects::nonNull).min(Long::compare).orElse(null);
+                if (lastSentOffset > 0 && oldest != null && oldest > lastSentOffset + 1) {
+                    emitter.send(SseEmitter.event().name(RESET_EVENT).data(lastSentOffset));
+                }
+                while (sendStored() == batchSize) {
+                    // keep reading until a short page
+                }
+                live = true;
+                while (sendStored() == batchSize) {
+                    // changes published while switching to live
+                }
+            } catch (IOException | RuntimeException e) {
+                close(e);
+                return;
+            } finally {
+                sending.set(false);
+            }
+            drain();
+        }
+
+        /**
+         * Send the next stored changes up to the offset published when the read started. Later
+         * ones may not be visible on every shard yet; they are read again or arrive live.
+         */
+        private int sendStored() throws IOException {
+            long upTo = publishedOffset;
+            long after = lastSentOffset;
+            List<EmployeeChangeDTO> batch = new ArrayList<>();
+            for (List<EmployeeOutboxEvent> stored : shards.onEveryShard(
+                    shard -> outboxRepository.findPublishedAfter(after, Limit.of(batchSize)))) {
+                for (EmployeeOutboxEvent event : stored) {
+                    if (event.getPublishedOffset() <= upTo) {
+                        batch.add(EmployeeChangeDTO.from(event));
+                    }
+                }
+            }
+            batch.sort(Comparator.comparingLong(EmployeeChangeDTO::getOffset));
+            if (batch.size() > batchSize) {
+                batch = batch.subList(0, batchSize);
+            }
+            send(batch);
+            return batch.size();
+        }
+
+        private void offer(List<EmployeeChangeDTO> changes) {
+            if (!live) {
+                return;
+            }
+            for (EmployeeChangeDTO change : changes) {
+                if (!buffer.offer(change)) {
+                    drop();
+                    return;
+                }
+            }
+            deliveryExecutor.execute(this::drain);
+        }
+
+        private void drain() {
+            while (!buffer.isEmpty() && sending.compareAndSet(false, true)) {
+                try {
+                    List<EmployeeChangeDTO> batch = new ArrayList<>(batchSize);
+                    while (buffer.drainTo(batch, batchSize) > 0) {
+                        send(batch);
+                        batch.clear();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    close(e);
+                    return;
+                } finally {
+                    sending.set(false);
+                }
+            }
+        }
+
+        private void send(List<EmployeeChangeDTO> batch) throws IOException {
+            List<EmployeeChangeDTO> unsent = new ArrayList<>(batch.size());
+            for (EmployeeChangeDTO change : batch) {
+                if (change.getOffset() > lastSentOffset) {
+                    unsent.add(change);
+                }
+            }
+            if (unsent.isEmpty()) {
+                return;
+            }
+            long last = unsent.get(unsent.size() - 1).getOffset();
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(last))
+                    .name(CHANGES_EVENT)
+                    .data(unsent, MediaType.APPLICATION_JSON));
+            lastSentOffset = last;
+        }
+
+        private void drop() {
+            if (!subscribers.remove(this)) {
+                return;
+            }
+            buffer.clear();
+            if (droppedSubscribers != null) {
+                droppedSubscribers.increment();
+            }
+            log.debug("Dropping slow change feed subscriber at offset {}", lastSentOffset);
+            deliveryExecutor.execute(() -> {
+                try {
+                    emitter.send(SseEmitter.event().name(DROPPED_EVENT).data(lastSentOffset));
+                    emitter.complete();
+                } catch (IOException | RuntimeException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        }
+
+        private void close(Exception e) {
+            subscribers.remove(this);
+            log.debug("Closing change feed subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.ExportFormat;
+import com.example.employeemanagement.json.EmployeeJsonWriter;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Streams the whole employee table to an output stream one row at a time.
+ * Rows are read through a forward-only cursor and detached as soon as they are written,
+ * so memory use does not grow with the size of the table. With sharding the shards are read one
+ * after another, which keeps the rows in id order.
+ */
+@Service
+@Timed(value = "employee.export", description = "Latency of streaming the employee table", percentiles = {0.5, 0.95, 0.99})
+public class EmployeeExportService {
+
+    private static final String CSV_HEADER = "id,firstName,lastName,email,department,salary,position";
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public EmployeeExportService(EmployeeRepository employeeRepository, EmployeeShards shards,
+                                 EmployeeMapper employeeMapper, EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsv(outputStream);
+            } else {
+                writeNdjson(outputStream);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Each line is the JSON of the employee's response DTO, written straight from the entity
+    private void writeNdjson(OutputStream outputStream) throws IOException {
+        EmployeeJsonWriter writer = new EmployeeJsonWriter();
+        writer.open(outputStream);
+        forEachEmployee(employee -> {
+            writer.write(employee);
+            writer.writeNewline();
+        });
+        writer.flush();
+    }
+
+    private void writeCsv(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        forEachEmployee(employee -> writeCsvRow(writer, employeeMapper.toResponseDTO(employee)));
+        writer.flush();
+    }
+
+    // Every shard through its own cursor and read-only transaction; rows are detached once written
+    private void forEachEmployee(RowWriter rowWriter) {
+        shards.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Employee> employees = employeeRepository.streamAllOrderById()) {
+                employees.forEach(employee -> {
+                    try {
+                        rowWriter.write(employee);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    entityManager.detach(employee);
+                });
+            }
+        }));
+    }
+
+    private void writeCsvRow(Writer writer, EmployeeResponseDTO employee) throws IOException {
+        writer.write(String.valueOf(employee.getId()));
+        writer.write(',');
+        writeCsvField(writer, employee.getFirstName());
+        writer.write(',');
+        writeCsvField(writer, employee.getLastName());
+        writer.write(',');
+        writeCsvField(writer, employee.getEmail());
+        writer.write(',');
+        writeCsvField(writer, employee.getDepartment());
+        writer.write(',');
+        writer.write(employee.getSalary() == null ? "" : employee.getSalary().toString());
+        writer.write(',');
+        writeCsvField(writer, employee.getPosition());
+        writer.write('\n');
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks and double embedded quotes
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Employee employee) throws IOException;
+    }
+}
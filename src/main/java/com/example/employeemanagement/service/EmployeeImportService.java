@@ -0,0 +1,581 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.cache.EmployeeCache;
+import com.example.employeemanagement.email.EmailIndex;
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeeRequestDTO;
+import com.example.employeemanagement.dto.ExportFormat;
+import com.example.employeemanagement.dto.ImportJobDTO;
+import com.example.employeemanagement.dto.ImportRowErrorDTO;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.exception.ConflictException;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.model.ImportJob;
+import com.example.employeemanagement.model.ImportJobStatus;
+import com.example.employeemanagement.model.ImportRowError;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.repository.ImportJobRepository;
+import com.example.employeemanagement.repository.ImportRowErrorRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams a CSV or NDJSON upload into the employee table.
+ * <p>
+ * The calling thread only splits the upload into chunks of raw rows. Parsing, bean validation
+ * and the lookup of already used emails run on a pool sized to the available cores, and the
+ * validated chunks are handed to a single writer through a bounded queue, so reading blocks
+ * when the writer falls behind. The writer stores each chunk, its rejected rows and the job
+ * progress in one transaction; an interrupted import can therefore be resumed by uploading
+ * the same file again with the job id, and it continues after the last committed chunk.
+ * <p>
+ * With sharding, jobs live on shard 0 and only the employees of shard 0 share the transaction
+ * of the job progress; those of other shards are committed just before it. A job resumed after
+ * a failure in between reports such rows as "Email already in use" instead of storing them twice.
+ * <p>
+ * Writers run on their own pool of {@code employee.import.max-concurrent} threads, so busy
+ * request or async threads cannot keep an import from starting; further imports get a 503.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private static final int MAX_ERRORS_IN_RESPONSE = 100;
+    private static final List<String> CSV_COLUMNS =
+            List.of("firstName", "lastName", "email", "department", "salary", "position");
+    private static final ValidatedChunk END = new ValidatedChunk(List.of(), List.of(), List.of(), 0, 0);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
+    private final ImportJobRepository importJobRepository;
+    private final ImportRowErrorRepository importRowErrorRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeCache employeeCache;
+    private final EmailIndex emailIndex;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor writerExecutor;
+    private final Semaphore writerPermits;
+    private final ExecutorService validationExecutor;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final int maxStoredErrors;
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public EmployeeImportService(EmployeeRepository employeeRepository, EmployeeShards shards,
+                                 ImportJobRepository importJobRepository,
+                                 ImportRowErrorRepository importRowErrorRepository, EmployeeMapper employeeMapper,
+                                 EmployeeCache employeeCache, EmailIndex emailIndex, Validator validator,
+                                 ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+                                 @Value("${employee.import.chunk-size:1000}") int chunkSize,
+                                 @Value("${employee.import.queue-capacity:8}") int queueCapacity,
+                                 @Value("${employee.import.parallelism:0}") int parallelism,
+                                 @Value("${employee.import.max-stored-errors:10000}") int maxStoredErrors,
+                                 @Value("${employee.import.max-concurrent:2}") int maxConcurrent) {
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.importJobRepository = importJobRepository;
+        this.importRowErrorRepository = importRowErrorRepository;
+        this.employeeMapper = employeeMapper;
+        this.employeeCache = employeeCache;
+        this.emailIndex = emailIndex;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(EmployeeRequestDTO.class);
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writerExecutor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "import-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.writerExecutor.allowCoreThreadTimeOut(true);
+        // One permit per writer thread, so an accepted import never waits for a writer
+        this.writerPermits = new Semaphore(maxConcurrent);
+        this.validationExecutor = Executors.newFixedThreadPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.maxStoredErrors = maxStoredErrors;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationExecutor.shutdownNow();
+        writerExecutor.shutdownNow();
+    }
+
+    /**
+     * Import an upload, or resume the given job with the same upload. Returns once the whole
+     * upload has been processed; progress can be followed meanwhile with {@link #getImportJob}.
+     */
+    public ImportJobDTO importEmployees(ExportFormat format, InputStream inputStream, Long jobId) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        RowSource rows = format == ExportFormat.CSV ? csvRows(reader) : ndjsonRows(reader);
+
+        if (!writerPermits.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many imports running, please retry");
+        }
+        try {
+            ImportJob job = jobId == null
+                    ? importJobRepository.save(new ImportJob(format, Instant.now()))
+                    : resumableJob(jobId, format);
+            if (!runningJobs.add(job.getId())) {
+                throw new ConflictException("Import job " + job.getId() + " is already running");
+            }
+            try {
+                run(job.getId(), job.getCommittedRows(), rows);
+            } finally {
+                runningJobs.remove(job.getId());
+            }
+            return getImportJob(job.getId());
+        } finally {
+            writerPermits.release();
+        }
+    }
+
+    public ImportJobDTO getImportJob(Long jobId) {
+        ImportJob job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + jobId));
+        List<ImportRowErrorDTO> errors = new ArrayList<>();
+        for (ImportRowError error : importRowErrorRepository.findByJobIdOrderByRowNumber(
+                jobId, Limit.of(MAX_ERRORS_IN_RESPONSE))) {
+            errors.add(new ImportRowErrorDTO(error.getRowNumber(), error.getMessage()));
+        }
+        return ImportJobDTO.from(job, errors);
+    }
+
+    private ImportJob resumableJob(Long jobId, ExportFormat format) {
+        ImportJob job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + jobId));
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new BadRequestException("Import job " + jobId + " has already completed");
+        }
+        if (job.getFormat() != format) {
+            throw new BadRequestException("Import job " + jobId + " was started with format " + job.getFormat());
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                importJobRepository.updateStatus(jobId, ImportJobStatus.RUNNING, null, Instant.now()));
+        return job;
+    }
+
+    private void run(Long jobId, long committedRows, RowSource rows) {
+        BlockingQueue<Future<ValidatedChunk>> pipeline = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicLong writtenChunks = new AtomicLong();
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(
+                () -> writeChunks(jobId, pipeline, writtenChunks), writerExecutor);
+
+        String failure = null;
+        try {
+            long rowNumber = 0;
+            List<SourceRow> chunk = new ArrayList<>(chunkSize);
+            Object content;
+            while ((content = rows.next()) != null) {
+                if (++rowNumber <= committedRows) {
+                    continue;
+                }
+                chunk.add(new SourceRow(rowNumber, content));
+                if (chunk.size() == chunkSize) {
+                    submit(pipeline, chunk, writtenChunks, writer);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(pipeline, chunk, writtenChunks, writer);
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = "Reading the upload failed: " + e.getMessage();
+        } finally {
+            enqueue(pipeline, CompletableFuture.completedFuture(END), writer);
+        }
+
+        try {
+            writer.join();
+        } catch (CompletionException e) {
+            log.warn("Import job {} failed", jobId, e.getCause());
+            failure = "Writing failed: " + e.getCause().getMessage();
+        }
+        finish(jobId, failure);
+    }
+
+    private void submit(BlockingQueue<Future<ValidatedChunk>> pipeline, List<SourceRow> chunk,
+                        AtomicLong writtenChunks, CompletableFuture<Void> writer) {
+        Future<ValidatedChunk> validated = validationExecutor.submit(() -> validateChunk(chunk, writtenChunks));
+        if (!enqueue(pipeline, validated, writer)) {
+            validated.cancel(true);
+            throw new IllegalStateException("import writer stopped");
+        }
+    }
+
+    // Blocks while the queue is full; gives up when the writer has stopped taking chunks
+    private boolean enqueue(BlockingQueue<Future<ValidatedChunk>> pipeline, Future<ValidatedChunk> chunk,
+                            CompletableFuture<Void> writer) {
+        try {
+            while (!pipeline.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (writer.isDone()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ValidatedChunk validateChunk(List<SourceRow> chunk, AtomicLong writtenChunks) {
+        List<EmployeeRequestDTO> accepted = new ArrayList<>(chunk.size());
+        List<Long> acceptedRows = new ArrayList<>(chunk.size());
+        List<ImportRowError> errors = new ArrayList<>();
+        Set<String> chunkEmails = new HashSet<>();
+        for (SourceRow row : chunk) {
+            EmployeeRequestDTO requestDTO;
+            try {
+                requestDTO = toRequest(row.content);
+            } catch (RuntimeException | JsonProcessingException e) {
+                errors.add(new ImportRowError(null, row.number,
+                        abbreviate("Unreadable row: " + e.getMessage(), ImportRowError.MAX_MESSAGE_LENGTH)));
+                continue;
+            }
+            List<String> violations = new ArrayList<>();
+            for (ConstraintViolation<EmployeeRequestDTO> violation : validator.validate(requestDTO)) {
+                violations.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            if (!violations.isEmpty()) {
+                errors.add(new ImportRowError(null, row.number, String.join("; ", violations)));
+            } else if (!chunkEmails.add(requestDTO.getEmail())) {
+                errors.add(new ImportRowError(null, row.number, "Email appears more than once in the upload"));
+            } else {
+                accepted.add(requestDTO);
+                acceptedRows.add(row.number);
+            }
+        }
+
+        // Chunks committed after this point are not visible to the lookup; the writer checks those.
+        // Earlier chunks are, and their emails reached the email filter before they were counted.
+        long visibleChunks = writtenChunks.get();
+        Set<String> existingEmails = emailIndex.findInUse(chunkEmails);
+        List<EmployeeRequestDTO> unique = new ArrayList<>(accepted.size());
+        List<Long> uniqueRows = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            if (existingEmails.contains(accepted.get(i).getEmail())) {
+                errors.add(new ImportRowError(null, acceptedRows.get(i), "Email already in use"));
+            } else {
+                unique.add(accepted.get(i));
+                uniqueRows.add(acceptedRows.get(i));
+            }
+        }
+        return new ValidatedChunk(unique, uniqueRows, errors, chunk.get(chunk.size() - 1).number, visibleChunks);
+    }
+
+    private void writeChunks(Long jobId, BlockingQueue<Future<ValidatedChunk>> pipeline, AtomicLong writtenChunks) {
+        // Emails of the chunks that a validation still in the pipeline may not have seen
+        Deque<Set<String>> recentEmails = new ArrayDeque<>();
+        try {
+            while (true) {
+                ValidatedChunk chunk = pipeline.take().get();
+                if (chunk == END) {
+                    return;
+                }
+                Set<String> written = writeChunk(jobId, chunk, recentEmails, writtenChunks.get());
+                recentEmails.addLast(written);
+                if (recentEmails.size() > queueCapacity + 2) {
+                    recentEmails.removeFirst();
+                }
+                writtenChunks.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private Set<String> writeChunk(Long jobId, ValidatedChunk chunk, Deque<Set<String>> recentEmails,
+                                   long writtenChunks) {
+        // recentEmails holds the last chunks in write order; only those written after the lookup matter
+        List<Set<String>> unseen = new ArrayList<>(recentEmails)
+                .subList((int) Math.max(0, recentEmails.size() - (writtenChunks - chunk.visibleChunks)), recentEmails.size());
+        List<ImportRowError> errors = new ArrayList<>(chunk.errors);
+        List<Integer> writable = new ArrayList<>(chunk.accepted.size());
+        for (int i = 0; i < chunk.accepted.size(); i++) {
+            EmployeeRequestDTO requestDTO = chunk.accepted.get(i);
+            if (unseen.stream().anyMatch(set -> set.contains(requestDTO.getEmail()))) {
+                errors.add(new ImportRowError(null, chunk.acceptedRows.get(i), "Email appears more than once in the upload"));
+            } else {
+                writable.add(i);
+            }
+        }
+
+        Map<Integer, List<Integer>> byShard =
+                shards.partition(writable, i -> shards.shardOf(chunk.accepted.get(i).getDepartment()));
+        Set<String> emails = new HashSet<>();
+        long imported = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : byShard.entrySet()) {
+            int shard = entry.getKey();
+            if (shard != 0) {
+                imported += shards.on(shard, () -> transactionTemplate.execute(
+                        status -> writeEmployees(shard, chunk, entry.getValue(), errors, emails)));
+            }
+        }
+        long otherShards = imported;
+        List<Integer> rows = byShard.getOrDefault(0, List.of());
+        while (true) {
+            List<ImportRowError> attemptErrors = new ArrayList<>(errors);
+            Set<String> attemptEmails = new HashSet<>(emails);
+            List<Integer> attemptRows = rows;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    int importedHere = attemptRows.isEmpty()
+                            ? 0 : writeEmployees(0, chunk, attemptRows, attemptErrors, attemptEmails);
+                    updateJob(jobId, chunk, attemptErrors, otherShards + importedHere);
+                });
+                return attemptEmails;
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent create took an email after the chunk was validated: those rows become
+                // errors and the rest of the chunk is written again
+                rows = withoutTakenEmails(chunk, rows, errors, e);
+            }
+        }
+    }
+
+    private List<Integer> withoutTakenEmails(ValidatedChunk chunk, List<Integer> rows, List<ImportRowError> errors,
+                                             DataIntegrityViolationException violation) {
+        List<String> rowEmails = new ArrayList<>(rows.size());
+        for (Integer i : rows) {
+            rowEmails.add(chunk.accepted.get(i).getEmail());
+        }
+        Set<String> taken = new HashSet<>(transactionTemplate.execute(
+                status -> employeeRepository.findExistingEmails(rowEmails)));
+        if (taken.isEmpty()) {
+            throw violation;
+        }
+        List<Integer> remaining = new ArrayList<>(rows.size());
+        for (Integer i : rows) {
+            if (taken.contains(chunk.accepted.get(i).getEmail())) {
+                errors.add(new ImportRowError(null, chunk.acceptedRows.get(i), "Email already in use"));
+            } else {
+                remaining.add(i);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Store the given accepted rows of a chunk, all of one shard. With sharding their emails are
+     * reserved first; rows whose email another writer took meanwhile become errors.
+     */
+    private int writeEmployees(int shard, ValidatedChunk chunk, List<Integer> rows, List<ImportRowError> errors,
+                               Set<String> emails) {
+        Set<String> inUse = Set.of();
+        if (shards.isSharded()) {
+            List<String> rowEmails = new ArrayList<>(rows.size());
+            for (Integer i : rows) {
+                rowEmails.add(chunk.accepted.get(i).getEmail());
+            }
+            inUse = emailIndex.reserveAll(rowEmails, shard);
+        }
+        List<Employee> employees = new ArrayList<>(rows.size());
+        for (Integer i : rows) {
+            EmployeeRequestDTO requestDTO = chunk.accepted.get(i);
+            if (inUse.contains(requestDTO.getEmail())) {
+                errors.add(new ImportRowError(null, chunk.acceptedRows.get(i), "Email already in use"));
+            } else {
+                employees.add(employeeMapper.toEntity(requestDTO));
+                emails.add(requestDTO.getEmail());
+            }
+        }
+
+        // Flushed here so that a unique violation surfaces before any event is published
+        List<Employee> savedEmployees = employeeRepository.saveAll(employees);
+        employeeRepository.flush();
+        for (Employee employee : savedEmployees) {
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(employeeMapper.toResponseDTO(employee)));
+        }
+        employeeCache.evict(null, savedEmployees.stream().map(Employee::getDepartment).distinct().toArray(String[]::new));
+        return savedEmployees.size();
+    }
+
+    private void updateJob(Long jobId, ValidatedChunk chunk, List<ImportRowError> errors, long imported) {
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+        long storable = Math.max(0, maxStoredErrors - job.getFailedRows());
+        List<ImportRowError> stored = new ArrayList<>();
+        for (ImportRowError error : errors) {
+            if (stored.size() >= storable) {
+                break;
+            }
+            error.setJobId(jobId);
+            stored.add(error);
+        }
+        importRowErrorRepository.saveAll(stored);
+
+        job.setCommittedRows(chunk.lastRowNumber);
+        job.setImportedRows(job.getImportedRows() + imported);
+        job.setFailedRows(job.getFailedRows() + errors.size());
+        job.setUpdatedAt(Instant.now());
+    }
+
+    // The failure is cut to fit its column: a constraint violation's message alone holds the whole INSERT
+    private void finish(Long jobId, String failure) {
+        transactionTemplate.executeWithoutResult(status -> importJobRepository.updateStatus(jobId,
+                failure == null ? ImportJobStatus.COMPLETED : ImportJobStatus.FAILED,
+                abbreviate(failure, ImportJob.MAX_ERROR_MESSAGE_LENGTH), Instant.now()));
+    }
+
+    private static String abbreviate(String message, int maxLength) {
+        if (message == null || message.length() <= maxLength) {
+            return message;
+        }
+        return message.substring(0, maxLength - 3) + "...";
+    }
+
+    private EmployeeRequestDTO toRequest(Object content) throws JsonProcessingException {
+        if (content instanceof String line) {
+            return requestReader.readValue(line);
+        }
+        String[] fields = (String[]) content;
+        EmployeeRequestDTO requestDTO = new EmployeeRequestDTO();
+        requestDTO.setFirstName(fields[0]);
+        requestDTO.setLastName(fields[1]);
+        requestDTO.setEmail(fields[2]);
+        requestDTO.setDepartment(fields[3]);
+        requestDTO.setSalary(fields[4] == null ? null : Double.valueOf(fields[4]));
+        requestDTO.setPosition(fields[5]);
+        return requestDTO;
+    }
+
+    /**
+     * CSV rows are reduced to the known columns in CSV_COLUMNS order, so uploads may have
+     * extra columns (such as the id and fullName of an export) in any order
+     */
+    private RowSource csvRows(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        String[] header = csv.readRecord();
+        if (header == null) {
+            throw new BadRequestException("CSV upload is empty");
+        }
+        Map<String, Integer> columnIndex = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columnIndex.put(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        int[] positions = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < positions.length; i++) {
+            Integer position = columnIndex.get(CSV_COLUMNS.get(i).toLowerCase(Locale.ROOT));
+            if (position == null) {
+                throw new BadRequestException("CSV header is missing column " + CSV_COLUMNS.get(i));
+            }
+            positions[i] = position;
+        }
+        return () -> {
+            String[] record;
+            do {
+                record = csv.readRecord();
+            } while (record != null && record.length == 1 && record[0].isEmpty());
+            if (record == null) {
+                return null;
+            }
+            String[] fields = new String[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                String value = positions[i] < record.length ? record[positions[i]] : "";
+                fields[i] = value.isEmpty() ? null : value;
+            }
+            return fields;
+        };
+    }
+
+    private RowSource ndjsonRows(BufferedReader reader) {
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            return line;
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        // A CSV String[] or an NDJSON line; null at the end of the upload
+        Object next() throws IOException;
+    }
+
+    private static final class SourceRow {
+        private final long number;
+        private final Object content;
+
+        private SourceRow(long number, Object content) {
+            this.number = number;
+            this.content = content;
+        }
+    }
+
+    private static final class ValidatedChunk {
+        private final List<EmployeeRequestDTO> accepted;
+        private final List<Long> acceptedRows;
+        private final List<ImportRowError> errors;
+        private final long lastRowNumber;
+        private final long visibleChunks;
+
+        private ValidatedChunk(List<EmployeeRequestDTO> accepted, List<Long> acceptedRows, List<ImportRowError> errors,
+                               long lastRowNumber, long visibleChunks) {
+            this.accepted = accepted;
+            this.acceptedRows = acceptedRows;
+            this.errors = errors;
+            this.lastRowNumber = lastRowNumber;
+            this.visibleChunks = visibleChunks;
+        }
+    }
+}
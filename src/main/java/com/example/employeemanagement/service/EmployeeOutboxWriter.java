@@ -0,0 +1,57 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.model.EmployeeOutboxEvent;
+import com.example.employeemanagement.repository.EmployeeOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Appends every employee change to the outbox table. Runs synchronously inside the
+ * transaction that published the event, so the outbox row commits or rolls back with the change.
+ */
+@Component
+public class EmployeeOutboxWriter {
+
+    private final EmployeeOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeOutboxWriter(EmployeeOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        outboxRepository.save(new EmployeeOutboxEvent(event.getType(), event.getEmployeeId(),
+                event.getDepartment(), payload(event), Instant.now()));
+    }
+
+    private String payload(EmployeeChangedEvent event) {
+        try {
+            switch (event.getType()) {
+                case CREATED:
+                case UPDATED:
+                    return objectMapper.writeValueAsString(event.getCurrent());
+                case BULK_UPDATED:
+                case BULK_DELETED:
+                    ObjectNode bulk = objectMapper.createObjectNode();
+                    bulk.put("department", event.getDepartment());
+                    bulk.put("affected", event.getAffected());
+                    if (event.getBulkUpdate() != null) {
+                        bulk.set("changes", objectMapper.valueToTree(event.getBulkUpdate()));
+                    }
+                    return objectMapper.writeValueAsString(bulk);
+                default:
+                    return objectMapper.writeValueAsString(objectMapper.createObjectNode().put("id", event.getEmployeeId()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change event", e);
+        }
+    }
+}
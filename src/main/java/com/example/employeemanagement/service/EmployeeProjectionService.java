@@ -0,0 +1,144 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeCursor;
+import com.example.employeemanagement.dto.EmployeeField;
+import com.example.employeemanagement.dto.EmployeeProjectionPage;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse-fieldset reads: only the requested columns are selected, rows come back as tuples
+ * (no managed entities, no dirty-checking snapshots) and are turned into maps holding only
+ * the requested fields in their usual serialization order.
+ */
+@Service
+@Timed(value = "employee.projection", description = "Latency of sparse-fieldset reads", percentiles = {0.5, 0.95, 0.99})
+public class EmployeeProjectionService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public EmployeeProjectionService(EmployeeRepository employeeRepository, EmployeeShards shards,
+                                     PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * With sharding every shard returns its next rows after the cursor, merged in sort order
+     */
+    public EmployeeProjectionPage getEmployees(Set<EmployeeField> fields, String after, int limit,
+                                               EmployeeSortField sortField) {
+        EmployeeCursor cursor = decodePage(after, limit, sortField);
+        List<List<Tuple>> perShard = shards.onEveryShard(shard -> readOnlyTransaction.execute(
+                status -> employeeRepository.findProjectedPage(attributes(fields), null, cursor, limit + 1)));
+        return toPage(merge(perShard, sortField), fields, null, limit, sortField);
+    }
+
+    public EmployeeProjectionPage getEmployeesByDepartment(Set<EmployeeField> fields, String department, String after,
+                                                           int limit, EmployeeSortField sortField) {
+        EmployeeCursor cursor = decodePage(after, limit, sortField);
+        List<Tuple> tuples = shards.on(shards.shardOf(department), () -> readOnlyTransaction.execute(
+                status -> employeeRepository.findProjectedPage(attributes(fields), department, cursor, limit + 1)));
+        return toPage(tuples, fields, department, limit, sortField);
+    }
+
+    public Map<String, Object> getEmployeeById(Long id, Set<EmployeeField> fields) {
+        Tuple tuple = shards.on(shards.shardOfId(id), () -> readOnlyTransaction.execute(
+                status -> employeeRepository.findProjectedById(id, attributes(fields))))
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        return toMap(tuple, fields);
+    }
+
+    private EmployeeCursor decodePage(String after, int limit, EmployeeSortField sortField) {
+        if (limit < 1 || limit > EmployeeService.MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + EmployeeService.MAX_PAGE_SIZE);
+        }
+        return EmployeeCursor.decode(after, sortField);
+    }
+
+    private EmployeeProjectionPage toPage(List<Tuple> tuples, Set<EmployeeField> fields, String department, int limit,
+                                          EmployeeSortField sortField) {
+
+        boolean hasNext = tuples.size() > limit;
+        List<Tuple> pageTuples = hasNext ? tuples.subList(0, limit) : tuples;
+        List<Map<String, Object>> content = new ArrayList<>(pageTuples.size());
+        for (Tuple tuple : pageTuples) {
+            content.add(toMap(tuple, fields));
+        }
+        String nextCursor = hasNext ? nextCursor(pageTuples.get(pageTuples.size() - 1), department, sortField) : null;
+        return new EmployeeProjectionPage(content, nextCursor);
+    }
+
+    // The rows of every shard in page order; each shard's rows already are
+    private static List<Tuple> merge(List<List<Tuple>> perShard, EmployeeSortField sortField) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        String sortKey = sortField == EmployeeSortField.LAST_NAME ? "lastName"
+                : sortField == EmployeeSortField.DEPARTMENT ? "department" : null;
+        Comparator<Tuple> byId = Comparator.comparing(tuple -> tuple.get("id", Long.class));
+        Comparator<Tuple> order = sortKey == null ? byId
+                : Comparator.<Tuple, String>comparing(tuple -> tuple.get(sortKey, String.class)).thenComparing(byId);
+        List<Tuple> merged = new ArrayList<>();
+        perShard.forEach(merged::addAll);
+        merged.sort(order);
+        return merged;
+    }
+
+    private String nextCursor(Tuple last, String department, EmployeeSortField sortField) {
+        String sortValue = "";
+        if (sortField == EmployeeSortField.LAST_NAME) {
+            sortValue = last.get("lastName", String.class);
+        } else if (sortField == EmployeeSortField.DEPARTMENT && department == null) {
+            sortValue = last.get("department", String.class);
+        }
+        return new EmployeeCursor(sortField, last.get("id", Long.class), sortValue).encode();
+    }
+
+    private Set<String> attributes(Set<EmployeeField> fields) {
+        Set<String> attributes = new LinkedHashSet<>();
+        for (EmployeeField field : fields) {
+            if (field == EmployeeField.FULL_NAME) {
+                attributes.add(EmployeeField.FIRST_NAME.getAttribute());
+                attributes.add(EmployeeField.LAST_NAME.getAttribute());
+            } else {
+                attributes.add(field.getAttribute());
+            }
+        }
+        return attributes;
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Set<EmployeeField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (EmployeeField field : fields) {
+            if (field == EmployeeField.FULL_NAME) {
+                row.put(field.getName(), tuple.get("firstName") + " " + tuple.get("lastName"));
+            } else {
+                row.put(field.getName(), tuple.get(field.getAttribute()));
+            }
+        }
+        return row;
+    }
+}
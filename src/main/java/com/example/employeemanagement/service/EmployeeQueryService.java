@@ -0,0 +1,100 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.columnar.EmployeeColumnStore;
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeeQuery;
+import com.example.employeemanagement.dto.EmployeeQueryResult;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Ad-hoc filter/sort/top-N queries. Served from the columnar replica when it is enabled and
+ * loaded, otherwise by a filtered, ordered and limited query plus a count against the database.
+ * With sharding every shard answers the query and the first {@code limit} of their rows are kept.
+ */
+@Service
+@Timed(value = "employee.query", description = "Latency of ad-hoc filter/sort/top-N queries", percentiles = {0.5, 0.95, 0.99})
+public class EmployeeQueryService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
+    private final EmployeeMapper employeeMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeColumnStore columnStore;
+
+    public EmployeeQueryService(EmployeeRepository employeeRepository, EmployeeShards shards,
+                                EmployeeMapper employeeMapper, TransactionTemplate transactionTemplate,
+                                ObjectProvider<EmployeeColumnStore> columnStore) {
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.employeeMapper = employeeMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.columnStore = columnStore.getIfAvailable();
+    }
+
+    public EmployeeQueryResult query(EmployeeQuery query) {
+        validate(query);
+        if (columnStore != null && columnStore.isLoaded()) {
+            return columnStore.query(query);
+        }
+        return queryDatabase(query);
+    }
+
+    /**
+     * Answer the query from the database even when the columnar replica is available
+     */
+    public EmployeeQueryResult queryDatabase(EmployeeQuery query) {
+        validate(query);
+        List<EmployeeQueryResult> perShard = shards.onEveryShard(shard -> transactionTemplate.execute(
+                status -> new EmployeeQueryResult(
+                        employeeMapper.toResponseDTOList(employeeRepository.findMatching(query)),
+                        employeeRepository.countMatching(query))));
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        List<EmployeeResponseDTO> content = new ArrayList<>();
+        long totalMatches = 0;
+        for (EmployeeQueryResult result : perShard) {
+            content.addAll(result.getContent());
+            totalMatches += result.getTotalMatches();
+        }
+        content.sort(order(query));
+        return new EmployeeQueryResult(content.size() > query.getLimit()
+                ? new ArrayList<>(content.subList(0, query.getLimit())) : content, totalMatches);
+    }
+
+    // The ORDER BY of the query; the database sorts nulls first
+    private static Comparator<EmployeeResponseDTO> order(EmployeeQuery query) {
+        Comparator<EmployeeResponseDTO> bySalary =
+                Comparator.comparing(EmployeeResponseDTO::getSalary, Comparator.nullsFirst(Comparator.naturalOrder()));
+        Comparator<EmployeeResponseDTO> byId = Comparator.comparing(EmployeeResponseDTO::getId);
+        switch (query.getSort()) {
+            case SALARY:
+                return bySalary.thenComparing(byId);
+            case SALARY_DESC:
+                return bySalary.reversed().thenComparing(byId);
+            default:
+                return byId;
+        }
+    }
+
+    private void validate(EmployeeQuery query) {
+        if (query.getLimit() < 1 || query.getLimit() > EmployeeService.MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + EmployeeService.MAX_PAGE_SIZE);
+        }
+        if (query.getMinSalary() != null && query.getMaxSalary() != null
+                && query.getMinSalary() > query.getMaxSalary()) {
+            throw new BadRequestException("minSalary must not be greater than maxSalary");
+        }
+    }
+}
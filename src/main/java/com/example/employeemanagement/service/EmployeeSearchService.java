@@ -0,0 +1,125 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import com.example.employeemanagement.search.EmployeeSearchIndex;
+import com.example.employeemanagement.search.SearchHits;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Type-ahead search: ranked ids come from the in-process index, the page of employees is then
+ * read by primary key. Pages are positions in the ranking, so results past the first
+ * {@value #MAX_SEARCH_RESULTS} are not reachable; refine the query instead. The same applies when
+ * a multi-term query gives up before finding every match: the page is marked truncated and has no
+ * next cursor.
+ */
+@Service
+@Timed(value = "employee.search", description = "Latency of type-ahead searches", percentiles = {0.5, 0.95, 0.99})
+public class EmployeeSearchService {
+
+    public static final int MAX_SEARCH_LIMIT = 100;
+    public static final int MAX_SEARCH_RESULTS = 1000;
+
+    private static final String CURSOR_PREFIX = "search:";
+
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
+    private final EmployeeMapper employeeMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmployeeSearchService(EmployeeSearchIndex searchIndex, EmployeeRepository employeeRepository,
+                                 EmployeeShards shards, EmployeeMapper employeeMapper,
+                                 TransactionTemplate transactionTemplate) {
+        this.searchIndex = searchIndex;
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.employeeMapper = employeeMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public EmployeePage search(String query, String after, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        int offset = decodeCursor(after);
+        if (offset > MAX_SEARCH_RESULTS - limit) {
+            throw new BadRequestException("Search results are limited to the first " + MAX_SEARCH_RESULTS);
+        }
+        if (!searchIndex.isLoaded()) {
+            throw new ServiceUnavailableException("Search index is still loading");
+        }
+
+        SearchHits hits = searchIndex.search(query, offset + limit + 1);
+        List<Long> ranked = hits.getIds();
+        // A truncated ranking may be missing matches, so it has no next page to offer
+        boolean hasNext = !hits.isTruncated() && ranked.size() > offset + limit && offset + limit < MAX_SEARCH_RESULTS;
+        List<Long> ids = ranked.subList(Math.min(offset, ranked.size()), Math.min(offset + limit, ranked.size()));
+        return new EmployeePage(load(ids), hasNext ? encodeCursor(offset + limit) : null, hits.isTruncated());
+    }
+
+    // In ranking order; employees deleted since the index lookup are left out
+    private List<EmployeeResponseDTO> load(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Employee> byId = new HashMap<>();
+        shards.partition(ids, shards::shardOfId).forEach((shard, shardIds) -> {
+            List<Employee> employees = shards.on(shard,
+                    () -> transactionTemplate.execute(status -> employeeRepository.findAllById(shardIds)));
+            for (Employee employee : employees) {
+                byId.put(employee.getId(), employee);
+            }
+        });
+        List<EmployeeResponseDTO> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Employee employee = byId.get(id);
+            if (employee != null) {
+                content.add(employeeMapper.toResponseDTO(employee));
+            }
+        }
+        return content;
+    }
+
+    private static String encodeCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            int offset = Integer.parseInt(raw.substring(CURSOR_PREFIX.length()));
+            if (offset < 0) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,78 +1,657 @@
 package com.example.employeemanagement.service;
 
+import com.example.employeemanagement.cache.EmployeeCache;
+import com.example.employeemanagement.concurrency.DatabaseBulkhead;
+import com.example.employeemanagement.concurrency.EmployeeReadCoalescer;
+import com.example.employeemanagement.concurrency.GroupCommit;
+import com.example.employeemanagement.dto.BulkCreateResponseDTO;
+import com.example.employeemanagement.dto.BulkItemResultDTO;
+import com.example.employeemanagement.dto.BulkItemStatus;
+import com.example.employeemanagement.dto.BulkOperationResultDTO;
+import com.example.employeemanagement.dto.EmployeeBulkUpdateDTO;
+import com.example.employeemanagement.dto.EmployeeCursor;
 import com.example.employeemanagement.dto.EmployeeMapper;
+import com.example.employeemanagement.dto.EmployeePage;
+import com.example.employeemanagement.dto.EmployeePatchDTO;
 import com.example.employeemanagement.dto.EmployeeRequestDTO;
 import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.dto.EmployeeSortField;
+import com.example.employeemanagement.email.EmailIndex;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.exception.ConflictException;
+import com.example.employeemanagement.exception.DuplicateEmailException;
+import com.example.employeemanagement.exception.PreconditionFailedException;
 import com.example.employeemanagement.exception.ResourceNotFoundException;
 import com.example.employeemanagement.model.Employee;
 import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Tuple;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * Employee reads and writes. With sharding, work on one employee or department runs on its shard
+ * and reads over all employees ask every shard at once; each transaction covers one shard.
+ */
 @Service
+@Timed(value = "employee.service", description = "EmployeeService method latency", percentiles = {0.5, 0.95, 0.99})
 public class EmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Columns of a deleted employee that the change event carries
+    private static final Set<String> DELETED_ATTRIBUTES = Set.of("email", "department", "salary");
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeCache employeeCache;
+    private final EmployeeReadCoalescer readCoalescer;
+    private final EmailIndex emailIndex;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    // Like @Transactional(readOnly = true): no dirty-checking snapshots or flush, and served by the
+    // read database when one is configured
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+    // Null unless employee.group-commit.enabled
+    private final GroupCommit<EmployeeRequestDTO, EmployeeResponseDTO> createGroupCommit;
+    private final int bulkMaxSize;
 
     @Autowired
-    public EmployeeService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+    public EmployeeService(EmployeeRepository employeeRepository, EmployeeShards shards, EmployeeMapper employeeMapper,
+                           EmployeeCache employeeCache, EmployeeReadCoalescer readCoalescer,
+                           EmailIndex emailIndex, Validator validator,
+                           ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${employee.bulk.max-size:1000}") int bulkMaxSize,
+                           @Value("${employee.group-commit.enabled:false}") boolean groupCommitEnabled,
+                           @Value("${employee.group-commit.max-delay:2ms}") Duration groupCommitMaxDelay,
+                           @Value("${employee.group-commit.max-batch-size:100}") int groupCommitMaxBatchSize) {
         this.employeeRepository = employeeRepository;
+        this.shards = shards;
         this.employeeMapper = employeeMapper;
+        this.employeeCache = employeeCache;
+        this.readCoalescer = readCoalescer;
+        this.emailIndex = emailIndex;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.createGroupCommit = groupCommitEnabled
+                ? new GroupCommit<>("createEmployee", groupCommitMaxDelay, groupCommitMaxBatchSize,
+                        this::createEmployeeBatch, meterRegistry)
+                : null;
+        this.bulkMaxSize = bulkMaxSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (createGroupCommit != null) {
+            createGroupCommit.close();
+        }
     }
 
+    /**
+     * Every employee in id order; with sharding the shards are read in parallel, each in id order,
+     * and joined in shard order, which keeps id order since the shard is part of the id
+     */
     public List<EmployeeResponseDTO> getAllEmployees() {
-        List<Employee> employees = employeeRepository.findAll();
-        return employeeMapper.toResponseDTOList(employees);
+        List<List<EmployeeResponseDTO>> perShard = shards.onEveryShard(shard -> readOnlyTransaction.execute(
+                status -> employeeMapper.toResponseDTOList(employeeRepository.findAllOrderById())));
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        perShard.forEach(employees::addAll);
+        return employees;
     }
 
+    /**
+     * Keyset page over all employees. Fetches one extra row to decide whether a next page exists,
+     * so the cost of a page does not depend on how deep the cursor is. With sharding every shard
+     * returns its next rows after the cursor and the page is the first of them in sort order.
+     */
+    public EmployeePage getEmployees(String after, int limit, EmployeeSortField sortField) {
+        validateLimit(limit);
+        EmployeeCursor cursor = EmployeeCursor.decode(after, sortField);
+        Limit fetchLimit = Limit.of(limit + 1);
+
+        List<List<Employee>> perShard = shards.onEveryShard(shard -> readOnlyTransaction.execute(status -> {
+            switch (sortField) {
+                case LAST_NAME:
+                    return employeeRepository.findPageOrderByLastName(
+                            cursor.getSortValue(), cursor.getId(), fetchLimit);
+                case DEPARTMENT:
+                    return employeeRepository.findPageOrderByDepartment(
+                            cursor.getSortValue(), cursor.getId(), fetchLimit);
+                default:
+                    return employeeRepository.findPageOrderById(cursor.getId(), fetchLimit);
+            }
+        }));
+        return toPage(merge(perShard, sortField), limit, sortField);
+    }
+
+    /**
+     * Cached when the cache is enabled; concurrent misses for the same id share one database load
+     */
     public EmployeeResponseDTO getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-        return employeeMapper.toResponseDTO(employee);
+        return employeeCache.getById(id, key -> readCoalescer.getById(key, this::loadEmployeeById));
     }
 
     public List<EmployeeResponseDTO> getEmployeesByDepartment(String department) {
-        List<Employee> employees = employeeRepository.findByDepartment(department);
-        return employeeMapper.toResponseDTOList(employees);
+        return shards.on(shards.shardOf(department), () -> readOnlyTransaction.execute(
+                status -> employeeMapper.toResponseDTOList(employeeRepository.findByDepartment(department))));
     }
 
+    /**
+     * Keyset page over one department. Sorting by department is the same as sorting by id here.
+     * Like lookups by id, the transaction only starts on a cache miss.
+     */
+    public EmployeePage getEmployeesByDepartment(String department, String after, int limit, EmployeeSortField sortField) {
+        validateLimit(limit);
+        return employeeCache.getDepartmentPage(department, after, limit, sortField,
+                () -> readCoalescer.getDepartmentPage(department, after, limit, sortField,
+                        () -> loadDepartmentPage(department, after, limit, sortField)));
+    }
+
+    private EmployeePage loadDepartmentPage(String department, String after, int limit, EmployeeSortField sortField) {
+        return shards.on(shards.shardOf(department), () -> readOnlyTransaction.execute(
+                status -> readDepartmentPage(department, after, limit, sortField)));
+    }
+
+    private EmployeePage readDepartmentPage(String department, String after, int limit, EmployeeSortField sortField) {
+        EmployeeCursor cursor = EmployeeCursor.decode(after, sortField);
+        Limit fetchLimit = Limit.of(limit + 1);
+
+        List<Employee> employees;
+        if (sortField == EmployeeSortField.LAST_NAME) {
+            employees = employeeRepository.findDepartmentPageOrderByLastName(
+                    department, cursor.getSortValue(), cursor.getId(), fetchLimit);
+        } else {
+            employees = employeeRepository.findDepartmentPageOrderById(department, cursor.getId(), fetchLimit);
+        }
+        return toPage(employees, limit, sortField);
+    }
+
+    /**
+     * Create an employee. The email check is answered by the email filter for most new emails;
+     * the insert is flushed here so that a concurrent insert of the same email is reported as a
+     * conflict rather than surfacing from the commit.
+     * <p>
+     * With group commit enabled, creates arriving together outside a transaction are written in
+     * one transaction by {@link #createEmployeeBatch}; each caller still gets its own employee or
+     * conflict. The caller waits without holding a connection or a database bulkhead permit;
+     * the batch's thread uses one connection for all of them.
+     */
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO requestDTO) {
-        if (employeeRepository.existsByEmail(requestDTO.getEmail())) {
-            throw new IllegalStateException("Email already in use");
+        if (createGroupCommit != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            DatabaseBulkhead.releasePermit();
+            return createGroupCommit.submit(requestDTO);
         }
+        int shard = shards.shardOf(requestDTO.getDepartment());
+        return shards.on(shard, () -> transaction.execute(status -> {
+            emailIndex.reserve(requestDTO.getEmail(), shard);
 
-        Employee employee = employeeMapper.toEntity(requestDTO);
-        Employee savedEmployee = employeeRepository.save(employee);
-        return employeeMapper.toResponseDTO(savedEmployee);
+            Employee employee = employeeMapper.toEntity(requestDTO);
+            Employee savedEmployee = saveUniqueEmail(() -> employeeRepository.saveAndFlush(employee));
+            employeeCache.evict(null, savedEmployee.getDepartment());
+            EmployeeResponseDTO created = employeeMapper.toResponseDTO(savedEmployee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(created));
+            return created;
+        }));
     }
 
-    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO requestDTO) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    /**
+     * Create many employees in one transaction per shard. Items are validated individually, emails
+     * are checked against the batch and, unless the email filter rules them out, against the
+     * database with a single IN query, and the accepted employees are inserted with JDBC batching.
+     * Rejected items do not fail the whole request.
+     */
+    public BulkCreateResponseDTO createEmployees(List<EmployeeRequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            throw new BadRequestException("Bulk request must contain at least one employee");
+        }
+        if (requestDTOs.size() > bulkMaxSize) {
+            throw new BadRequestException("Bulk request must not contain more than " + bulkMaxSize + " employees");
+        }
+
+        BulkItemResultDTO[] results = new BulkItemResultDTO[requestDTOs.size()];
+        Set<String> batchEmails = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            EmployeeRequestDTO requestDTO = requestDTOs.get(i);
+            List<String> errors = validate(requestDTO);
+            if (!errors.isEmpty()) {
+                results[i] = new BulkItemResultDTO(i, BulkItemStatus.INVALID, null, errors);
+            } else if (!batchEmails.add(requestDTO.getEmail())) {
+                results[i] = new BulkItemResultDTO(i, BulkItemStatus.DUPLICATE_EMAIL, null,
+                        List.of("Email appears more than once in the request"));
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Map<Integer, List<Integer>> candidatesByShard =
+                shards.partition(candidates, index -> shards.shardOf(requestDTOs.get(index).getDepartment()));
+        int createdCount = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : candidatesByShard.entrySet()) {
+            int shard = entry.getKey();
+            createdCount += shards.on(shard, () -> transaction.execute(
+                    status -> createOnShard(shard, requestDTOs, entry.getValue(), results)));
+        }
+        return new BulkCreateResponseDTO(createdCount, results.length - createdCount, List.of(results));
+    }
 
-        // Check if email is being changed and if new email already exists
-        if (!employee.getEmail().equals(requestDTO.getEmail()) &&
-                employeeRepository.existsByEmail(requestDTO.getEmail())) {
-            throw new IllegalStateException("Email already in use");
+    private int createOnShard(int shard, List<EmployeeRequestDTO> requestDTOs, List<Integer> candidates,
+                              BulkItemResultDTO[] results) {
+        List<String> emails = new ArrayList<>(candidates.size());
+        for (Integer index : candidates) {
+            emails.add(requestDTOs.get(index).getEmail());
         }
+        Set<String> existingEmails = emailIndex.reserveAll(emails, shard);
+        List<Integer> accepted = new ArrayList<>(candidates.size());
+        List<Employee> employees = new ArrayList<>(candidates.size());
+        for (Integer index : candidates) {
+            EmployeeRequestDTO requestDTO = requestDTOs.get(index);
+            if (existingEmails.contains(requestDTO.getEmail())) {
+                results[index] = new BulkItemResultDTO(index, BulkItemStatus.DUPLICATE_EMAIL, null,
+                        List.of("Email already in use"));
+            } else {
+                accepted.add(index);
+                employees.add(employeeMapper.toEntity(requestDTO));
+            }
+        }
+
+        List<Employee> savedEmployees = saveUniqueEmail(() -> {
+            List<Employee> saved = employeeRepository.saveAll(employees);
+            employeeRepository.flush();
+            return saved;
+        });
+        employeeCache.evict(null, savedEmployees.stream().map(Employee::getDepartment).distinct().toArray(String[]::new));
+        for (int i = 0; i < savedEmployees.size(); i++) {
+            int index = accepted.get(i);
+            EmployeeResponseDTO created = employeeMapper.toResponseDTO(savedEmployees.get(i));
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(created));
+            results[index] = new BulkItemResultDTO(index, BulkItemStatus.CREATED, created, null);
+        }
+        return savedEmployees.size();
+    }
+
+    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO requestDTO) {
+        return updateEmployee(id, requestDTO, null);
+    }
+
+    /**
+     * Update an employee, optionally only if it is still at the expected version.
+     * The UPDATE itself is version-checked, so a concurrent change between the read and the
+     * write is also rejected instead of being silently overwritten.
+     */
+    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO requestDTO, Long expectedVersion) {
+        int shard = shards.shardOfId(id);
+        return shards.on(shard, () -> transaction.execute(status -> {
+            Employee employee = employeeRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+
+            if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+                throw new PreconditionFailedException("Employee " + id + " has been modified (current version "
+                        + employee.getVersion() + ")");
+            }
+            requireSameShard(shard, requestDTO.getDepartment());
+
+            // Check if email is being changed and if new email already exists
+            if (!employee.getEmail().equals(requestDTO.getEmail())) {
+                emailIndex.reserve(requestDTO.getEmail(), shard);
+                emailIndex.releaseAfterCommit(List.of(employee.getEmail()));
+            }
+
+            EmployeeResponseDTO previous = employeeMapper.toResponseDTO(employee);
+            employeeMapper.updateEntityFromDTO(employee, requestDTO);
+            Employee updatedEmployee;
+            try {
+                updatedEmployee = saveUniqueEmail(() -> employeeRepository.saveAndFlush(employee));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                throw concurrentModification(id, expectedVersion);
+            }
+            employeeCache.evict(id, previous.getDepartment(), updatedEmployee.getDepartment());
+            EmployeeResponseDTO updated = employeeMapper.toResponseDTO(updatedEmployee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.updated(previous, updated));
+            return updated;
+        }));
+    }
 
-        employeeMapper.updateEntityFromDTO(employee, requestDTO);
-        Employee updatedEmployee = employeeRepository.save(employee);
-        return employeeMapper.toResponseDTO(updatedEmployee);
+    // A version-checked UPDATE that found another version: the precondition failed if the caller
+    // sent If-Match, otherwise the request merely conflicts with a concurrent one
+    private static RuntimeException concurrentModification(Long id, Long expectedVersion) {
+        String message = "Employee " + id + " was modified concurrently";
+        return expectedVersion != null ? new PreconditionFailedException(message) : new ConflictException(message);
     }
 
+    /**
+     * Apply a JSON Merge Patch, optionally only if the employee is still at the expected version.
+     * Only the supplied fields are validated, and the UPDATE sets only the columns that change.
+     * The current state is usually taken from the employee cache instead of being read: the
+     * UPDATE is version-checked against it, and if that finds another version, because the copy
+     * was stale or the employee changed concurrently, the row is read and the patch applied again.
+     * A new email is checked against the row as read, so that it is only claimed once.
+     */
+    public EmployeeResponseDTO patchEmployee(Long id, EmployeePatchDTO patch, Long expectedVersion) {
+        List<String> errors = validate(patch);
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(String.join("; ", errors));
+        }
+        Map<String, Object> values = patch.values();
+        EmployeeResponseDTO cached = values.containsKey("email") ? null : getEmployeeById(id);
+        int shard = shards.shardOfId(id);
+        return shards.on(shard, () -> transaction.execute(status -> {
+            EmployeeResponseDTO previous = cached;
+            boolean current = false;
+            // Read the row for an email change, or if the cached copy may be older than If-Match
+            if (previous == null || (expectedVersion != null && !expectedVersion.equals(previous.getVersion()))) {
+                previous = findCurrent(id, expectedVersion);
+                current = true;
+            }
+            EmployeeResponseDTO updated = applyPatch(shard, previous, values, current);
+            if (updated == null && !current) {
+                previous = findCurrent(id, expectedVersion);
+                updated = applyPatch(shard, previous, values, true);
+            }
+            if (updated == null) {
+                throw concurrentModification(id, expectedVersion);
+            }
+            if (updated != previous) {
+                employeeCache.evict(id, previous.getDepartment(), updated.getDepartment());
+                eventPublisher.publishEvent(EmployeeChangedEvent.updated(previous, updated));
+            }
+            return updated;
+        }));
+    }
+
+    /**
+     * Delete an employee. Only the columns the change event needs are read first: the email is
+     * released, and the department and salary are taken out of the department statistics.
+     */
     public void deleteEmployee(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-        employeeRepository.delete(employee);
+        shards.on(shards.shardOfId(id), () -> transaction.execute(status -> {
+            Tuple row = employeeRepository.findProjectedById(id, DELETED_ATTRIBUTES)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+            EmployeeResponseDTO deleted = new EmployeeResponseDTO();
+            deleted.setId(id);
+            deleted.setEmail(row.get("email", String.class));
+            deleted.setDepartment(row.get("department", String.class));
+            deleted.setSalary(row.get("salary", Double.class));
+            if (employeeRepository.deleteByIdInBulk(id) == 0) {
+                throw new ResourceNotFoundException("Employee not found with id: " + id);
+            }
+            emailIndex.releaseAfterCommit(List.of(deleted.getEmail()));
+            employeeCache.evict(id, deleted.getDepartment());
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(deleted));
+            return null;
+        }));
+    }
+
+    /**
+     * Apply the same change to every employee of a department with a single UPDATE statement
+     */
+    public BulkOperationResultDTO updateEmployeesByDepartment(String department, EmployeeBulkUpdateDTO updateDTO) {
+        int shard = shards.shardOf(department);
+        if (updateDTO.getDepartment() != null) {
+            requireSameShard(shard, updateDTO.getDepartment());
+        }
+        return shards.on(shard, () -> transaction.execute(status -> {
+            int affected = employeeRepository.updateByDepartment(department, updateDTO.getDepartment(),
+                    updateDTO.getPosition(), updateDTO.getSalary(), updateDTO.salaryFactor());
+            employeeCache.evictDepartments(department, updateDTO.getDepartment());
+            if (affected > 0) {
+                eventPublisher.publishEvent(EmployeeChangedEvent.bulkUpdated(department, updateDTO, affected));
+            }
+            return new BulkOperationResultDTO(affected);
+        }));
+    }
+
+    /**
+     * Delete every employee of a department with a single DELETE statement
+     */
+    public BulkOperationResultDTO deleteEmployeesByDepartment(String department) {
+        return shards.on(shards.shardOf(department), () -> transaction.execute(status -> {
+            if (shards.isSharded()) {
+                emailIndex.releaseAfterCommit(employeeRepository.findEmailsByDepartment(department));
+            }
+            int affected = employeeRepository.deleteByDepartmentInBulk(department);
+            employeeCache.evictDepartments(department);
+            if (affected > 0) {
+                eventPublisher.publishEvent(EmployeeChangedEvent.bulkDeleted(department, affected));
+            }
+            return new BulkOperationResultDTO(affected);
+        }));
     }
 
-    // Additional method to get Employee entity (for internal use)
+    // Additional method to get Employee entity (for internal use).
+    // Not cached: callers get a managed entity they may modify.
     public Employee getEmployeeEntityById(Long id) {
-        return employeeRepository.findById(id)
+        return shards.on(shards.shardOfId(id), () -> employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id)));
+    }
+
+    private EmployeeResponseDTO loadEmployeeById(Long id) {
+        return shards.on(shards.shardOfId(id), () -> readOnlyTransaction.execute(
+                status -> employeeMapper.toResponseDTO(employeeRepository.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id)))));
+    }
+
+    // The employee as stored, read in the current transaction
+    private EmployeeResponseDTO findCurrent(Long id, Long expectedVersion) {
+        Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new PreconditionFailedException("Employee " + id + " has been modified (current version "
+                    + employee.getVersion() + ")");
+        }
+        return employeeMapper.toResponseDTO(employee);
+    }
+
+    /**
+     * Write the values of a patch that differ from {@code previous} with a single versioned UPDATE.
+     *
+     * @param current whether {@code previous} was read in this transaction, rather than cached
+     * @return the patched employee, {@code previous} itself if nothing changes, or null if the
+     * employee is no longer at the version of {@code previous}
+     */
+    private EmployeeResponseDTO applyPatch(int shard, EmployeeResponseDTO previous, Map<String, Object> values,
+                                           boolean current) {
+        Map<String, Object> changes = employeeMapper.changedAttributes(previous, values);
+        if (changes.isEmpty()) {
+            // A stale copy could make a real change look like none
+            return current ? previous : null;
+        }
+        if (changes.containsKey("department")) {
+            requireSameShard(shard, (String) changes.get("department"));
+        }
+        if (changes.containsKey("email")) {
+            emailIndex.reserve((String) changes.get("email"), shard);
+            emailIndex.releaseAfterCommit(List.of(previous.getEmail()));
+        }
+        int updated = saveUniqueEmail(() -> employeeRepository.updateAttributes(previous.getId(),
+                previous.getVersion(), changes));
+        return updated == 0 ? null : employeeMapper.applyChanges(previous, changes);
+    }
+
+    /**
+     * Write a group of single creates like a bulk create: one email query, one batched insert and
+     * one commit per shard. Requests are completed only after the commit; a conflict with a
+     * concurrent insert fails the whole batch, which {@link GroupCommit} then retries one request
+     * at a time.
+     */
+    private void createEmployeeBatch(List<GroupCommit.Request<EmployeeRequestDTO, EmployeeResponseDTO>> requests) {
+        Set<String> batchEmails = new HashSet<>();
+        List<GroupCommit.Request<EmployeeRequestDTO, EmployeeResponseDTO>> candidates = new ArrayList<>();
+        for (GroupCommit.Request<EmployeeRequestDTO, EmployeeResponseDTO> request : requests) {
+            if (batchEmails.add(request.getValue().getEmail())) {
+                candidates.add(request);
+            } else {
+                request.fail(new DuplicateEmailException());
+            }
+        }
+        shards.partition(candidates, request -> shards.shardOf(request.getValue().getDepartment()))
+                .forEach((shard, shardCandidates) -> shards.on(shard, () -> {
+                    createBatchOnShard(shard, shardCandidates);
+                    return null;
+                }));
+    }
+
+    private void createBatchOnShard(int shard,
+                                    List<GroupCommit.Request<EmployeeRequestDTO, EmployeeResponseDTO>> candidates) {
+        List<String> batchEmails = new ArrayList<>(candidates.size());
+        for (GroupCommit.Request<EmployeeRequestDTO, EmployeeResponseDTO> request : candidates) {
+            batchEmails.add(request.getValue().getEmail());
+        }
+
+        List<GroupCommit.Request<EmployeeRequestDTO, EmployeeResponseDTO>> accepted = new ArrayList<>();
+        List<EmployeeResponseDTO> created = transaction.execute(status -> {
+            Set<String> existingEmails = emailIndex.reserveAll(batchEmails, shard);
+            List<Employee> employees = new ArrayList<>(candidates.size());
+            for (GroupCommit.Request<EmployeeRequestDTO, EmployeeResponseDTO> request : candidates) {
+                if (existingEmails.contains(request.getValue().getEmail())) {
+                    request.fail(new DuplicateEmailException());
+                } else {
+                    accepted.add(request);
+                    employees.add(employeeMapper.toEntity(request.getValue()));
+                }
+            }
+
+            List<Employee> savedEmployees = saveUniqueEmail(() -> {
+                List<Employee> saved = employeeRepository.saveAll(employees);
+                employeeRepository.flush();
+                return saved;
+            });
+            employeeCache.evict(null, savedEmployees.stream().map(Employee::getDepartment).distinct().toArray(String[]::new));
+            List<EmployeeResponseDTO> responses = employeeMapper.toResponseDTOList(savedEmployees);
+            responses.forEach(response -> eventPublisher.publishEvent(EmployeeChangedEvent.created(response)));
+            return responses;
+        });
+        for (int i = 0; i < created.size(); i++) {
+            accepted.get(i).complete(created.get(i));
+        }
+    }
+
+    /**
+     * An employee stays on the shard of its department; moving it to a department stored on
+     * another shard would take a transaction over both
+     */
+    private void requireSameShard(int shard, String department) {
+        if (shards.shardOf(department) != shard) {
+            throw new ConflictException("Cannot move employees to department '" + department
+                    + "', which is stored on another shard");
+        }
+    }
+
+    private List<String> validate(EmployeeRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            return List.of("Employee must not be null");
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<EmployeeRequestDTO> violation : validator.validate(requestDTO)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    // Each supplied field against the constraints of a full request; null removes a value, which
+    // every field requires
+    private List<String> validate(EmployeePatchDTO patch) {
+        if (patch == null) {
+            return List.of("Patch must not be null");
+        }
+        List<String> errors = new ArrayList<>();
+        for (String field : patch.unknownFields()) {
+            errors.add(field + ": cannot be changed");
+        }
+        patch.values().forEach((field, value) -> {
+            for (ConstraintViolation<EmployeeRequestDTO> violation
+                    : validator.validateValue(EmployeeRequestDTO.class, field, value)) {
+                errors.add(field + ": " + violation.getMessage());
+            }
+        });
+        return errors;
+    }
+
+    /**
+     * Run a write that flushes, reporting a violation of the email constraint as a conflict
+     */
+    private <T> T saveUniqueEmail(Supplier<T> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Employee.EMAIL_CONSTRAINT)) {
+                throw new DuplicateEmailException();
+            }
+            throw e;
+        }
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // The rows of every shard in page order; each shard's rows already are
+    private static List<Employee> merge(List<List<Employee>> perShard, EmployeeSortField sortField) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        Comparator<Employee> order;
+        switch (sortField) {
+            case LAST_NAME:
+                order = Comparator.comparing(Employee::getLastName);
+                break;
+            case DEPARTMENT:
+                order = Comparator.comparing(Employee::getDepartment);
+                break;
+            default:
+                order = (a, b) -> 0;
+        }
+        List<Employee> merged = new ArrayList<>();
+        perShard.forEach(merged::addAll);
+        merged.sort(order.thenComparing(Employee::getId));
+        return merged;
+    }
+
+    private EmployeePage toPage(List<Employee> employees, int limit, EmployeeSortField sortField) {
+        boolean hasNext = employees.size() > limit;
+        List<EmployeeResponseDTO> content = employeeMapper.toResponseDTOList(
+                hasNext ? employees.subList(0, limit) : employees);
+        String nextCursor = hasNext
+                ? EmployeeCursor.after(sortField, content.get(content.size() - 1)).encode()
+                : null;
+        return new EmployeePage(content, nextCursor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.example.employeemanagement.sharding;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Which shard uses an email. The unique constraint on the employee table only covers its own
+ * shard, so an email is claimed here, on shard 0, before an employee may use it, and released
+ * once no employee does. Statements run outside any transaction: a claim is visible to every
+ * other writer as soon as it is made.
+ */
+public class EmailRoutes {
+
+    public static final String TABLE = "employee_email_routes";
+
+    // Parameters per statement, well below what the database accepts
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public EmailRoutes(DataSource directory) {
+        this.jdbcTemplate = new JdbcTemplate(directory);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    void createTable() {
+        jdbcTemplate.execute("create table if not exists " + TABLE
+                + " (email varchar(255) not null primary key, shard integer not null)");
+    }
+
+    public boolean exists(String email) {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from " + TABLE + " where email = ?",
+                Integer.class, email);
+        return count != null && count > 0;
+    }
+
+    /**
+     * The given emails that are claimed
+     */
+    public Set<String> findExisting(Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : chunks(emails)) {
+            existing.addAll(namedJdbcTemplate.queryForList("select email from " + TABLE + " where email in (:emails)",
+                    Map.of("emails", chunk), String.class));
+        }
+        return existing;
+    }
+
+    /**
+     * @return false if the email is already claimed
+     */
+    public boolean claim(String email, int shard) {
+        try {
+            jdbcTemplate.update("insert into " + TABLE + " (email, shard) values (?, ?)", email, shard);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Claim many emails for one shard with a multi-row insert per chunk. A chunk that collides
+     * with a concurrent claim inserts nothing and is claimed again one email at a time.
+     *
+     * @return the emails that were already claimed
+     */
+    public Set<String> claimAll(Collection<String> emails, int shard) {
+        Set<String> taken = findExisting(emails);
+        Set<String> free = new LinkedHashSet<>(emails);
+        free.removeAll(taken);
+        for (List<String> chunk : chunks(free)) {
+            StringBuilder sql = new StringBuilder("insert into ").append(TABLE).append(" (email, shard) values ");
+            Object[] parameters = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+                parameters[2 * i] = chunk.get(i);
+                parameters[2 * i + 1] = shard;
+            }
+            try {
+                jdbcTemplate.update(sql.toString(), parameters);
+            } catch (DuplicateKeyException e) {
+                for (String email : chunk) {
+                    if (!claim(email, shard)) {
+                        taken.add(email);
+                    }
+                }
+            }
+        }
+        return taken;
+    }
+
+    public void release(Collection<String> emails) {
+        for (List<String> chunk : chunks(emails)) {
+            namedJdbcTemplate.update("delete from " + TABLE + " where email in (:emails)", Map.of("emails", chunk));
+        }
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from " + TABLE, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public void forEachEmail(Consumer<String> action) {
+        jdbcTemplate.query("select email from " + TABLE, resultSet -> {
+            action.accept(resultSet.getString(1));
+        });
+    }
+
+    private static List<List<String>> chunks(Collection<String> emails) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> chunk = new ArrayList<>(Math.min(CHUNK_SIZE, emails.size()));
+        for (String email : emails) {
+            chunk.add(email);
+            if (chunk.size() == CHUNK_SIZE) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
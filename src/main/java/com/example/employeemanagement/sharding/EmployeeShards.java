@@ -0,0 +1,248 @@
+package com.example.employeemanagement.sharding;
+
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import com.example.employeemanagement.metrics.StatementCountingInspector;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Where employees live when {@code employee.sharding.enabled} splits them across several
+ * databases: an employee is stored on the shard its department hashes to, and its id carries
+ * that shard in the bits above {@link #SHARD_ID_BITS}, so lookups by id or department touch one
+ * shard and only reads over all employees have to ask every shard.
+ * <p>
+ * Work for a shard runs inside {@link #on}, which routes the connections and generated ids of
+ * the current thread. A transaction stays on the shard it started on. Without sharding there is
+ * one shard and every method runs its work directly on the calling thread.
+ */
+@Component
+public class EmployeeShards {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeShards.class);
+
+    /**
+     * Ids of shard {@code k} start above {@code k << SHARD_ID_BITS}
+     */
+    public static final int SHARD_ID_BITS = 40;
+
+    private final ShardDataSources dataSources;
+    private final int count;
+    private final EntityManagerFactory entityManagerFactory;
+    // Null unless sharded
+    private final EmailRoutes emailRoutes;
+    private final ThreadPoolExecutor scatterExecutor;
+
+    // The EntityManagerFactory has created the schema of shard 0 before the other shards are prepared
+    public EmployeeShards(ObjectProvider<ShardDataSources> shardDataSources, EntityManagerFactory entityManagerFactory,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.dataSources = shardDataSources.getIfAvailable();
+        this.count = dataSources == null ? 1 : dataSources.size();
+        this.entityManagerFactory = entityManagerFactory;
+        this.emailRoutes = dataSources == null ? null : new EmailRoutes(dataSources.emailRoutes());
+        if (count > 1) {
+            // The calling thread reads one shard itself; more threads than connections would only wait
+            int threads = (count - 1) * poolSize;
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.scatterExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "shard-scatter-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.scatterExecutor.allowCoreThreadTimeOut(true);
+        } else {
+            this.scatterExecutor = null;
+        }
+    }
+
+    /**
+     * Create the schema on shards that do not have it yet and move their employee ids into
+     * their range; then the email routes on shard 0
+     */
+    @PostConstruct
+    public void prepare() {
+        if (dataSources == null) {
+            return;
+        }
+        for (int shard = 1; shard < count; shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSources.get(shard));
+            if (!hasEmployeeTable(jdbcTemplate)) {
+                on(shard, () -> {
+                    entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(false);
+                    return null;
+                });
+                log.info("Created the schema of shard {}", shard);
+            }
+            moveIdsIntoRange(jdbcTemplate, shard);
+        }
+        emailRoutes.createTable();
+        log.info("Employees are sharded by department across {} databases", count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
+
+    public boolean isSharded() {
+        return dataSources != null;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * The routing table keeping emails unique across shards, or null without sharding
+     */
+    public EmailRoutes emailRoutes() {
+        return emailRoutes;
+    }
+
+    public int shardOf(String department) {
+        return count == 1 ? 0 : Math.floorMod(department.hashCode(), count);
+    }
+
+    /**
+     * @throws ResourceNotFoundException if the id belongs to no shard, and so to no employee
+     */
+    public int shardOfId(Long id) {
+        if (count == 1) {
+            return 0;
+        }
+        long shard = id >> SHARD_ID_BITS;
+        if (shard < 0 || shard >= count) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        return (int) shard;
+    }
+
+    /**
+     * Group items by their shard, in shard order
+     */
+    public <T> Map<Integer, List<T>> partition(Collection<T> items, ToIntFunction<T> shardOf) {
+        Map<Integer, List<T>> partitions = new TreeMap<>();
+        for (T item : items) {
+            partitions.computeIfAbsent(shardOf.applyAsInt(item), shard -> new ArrayList<>()).add(item);
+        }
+        return partitions;
+    }
+
+    /**
+     * Run {@code work} with its connections and generated ids on the given shard
+     *
+     * @throws IllegalStateException if the thread is in a transaction on another shard
+     */
+    public <T> T on(int shard, Supplier<T> work) {
+        if (count == 1) {
+            return work.get();
+        }
+        if (shard != ShardRouting.currentShard() && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cannot use shard " + shard + " inside a transaction on shard "
+                    + ShardRouting.currentShard());
+        }
+        int previous = ShardRouting.enter(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardRouting.restore(previous);
+        }
+    }
+
+    /**
+     * Run {@code work} on every shard in turn, on the calling thread
+     */
+    public void forEachShard(IntConsumer work) {
+        for (int shard = 0; shard < count; shard++) {
+            int target = shard;
+            on(target, () -> {
+                work.accept(target);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Run {@code work} on every shard at the same time and return the results in shard order.
+     * Shard 0 is read on the calling thread.
+     */
+    public <T> List<T> onEveryShard(IntFunction<T> work) {
+        if (count == 1) {
+            return List.of(work.apply(0));
+        }
+        List<Future<T>> futures = new ArrayList<>(count - 1);
+        try {
+            for (int shard = 1; shard < count; shard++) {
+                int target = shard;
+                futures.add(scatterExecutor.submit(
+                        StatementCountingInspector.propagate(() -> on(target, () -> work.apply(target)))));
+            }
+            List<T> results = new ArrayList<>(count);
+            results.add(on(0, () -> work.apply(0)));
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while reading the shards");
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static boolean hasEmployeeTable(JdbcTemplate jdbcTemplate) {
+        Integer tables = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.tables where lower(table_name) = 'employees'", Integer.class);
+        return tables != null && tables > 0;
+    }
+
+    // The sequence of a new shard starts at 1 like shard 0's; restart it in the shard's own range
+    private static void moveIdsIntoRange(JdbcTemplate jdbcTemplate, int shard) {
+        Map<String, Object> sequence = jdbcTemplate.queryForMap("select base_value, increment"
+                + " from information_schema.sequences where lower(sequence_name) = 'employee_seq'");
+        long next = ((Number) sequence.get("BASE_VALUE")).longValue();
+        long increment = ((Number) sequence.get("INCREMENT")).longValue();
+        long rangeStart = (long) shard << SHARD_ID_BITS;
+        if (next < rangeStart) {
+            // The pooled optimizer hands out the increment values up to and including the one fetched
+            jdbcTemplate.execute("alter sequence employee_seq restart with " + (rangeStart + increment));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.employeemanagement.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.List;
+
+/**
+ * The connection pools of the shards, in shard order. Shard 0 also holds the tables that are not
+ * sharded: import jobs and the email routes. The email routes have a pool of their own, because
+ * writers claim emails while holding a connection of their shard; sharing shard 0's pool would
+ * let those writers take every connection and then wait for one more.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<HikariDataSource> dataSources;
+    private final HikariDataSource emailRoutes;
+
+    public ShardDataSources(List<HikariDataSource> dataSources, HikariDataSource emailRoutes) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.emailRoutes = emailRoutes;
+    }
+
+    public int size() {
+        return dataSources.size();
+    }
+
+    public HikariDataSource get(int shard) {
+        return dataSources.get(shard);
+    }
+
+    public List<HikariDataSource> asList() {
+        return dataSources;
+    }
+
+    /**
+     * A pool on the database of shard 0, used only for the email routes
+     */
+    public HikariDataSource emailRoutes() {
+        return emailRoutes;
+    }
+
+    @Override
+    public void close() {
+        dataSources.forEach(HikariDataSource::close);
+        emailRoutes.close();
+    }
+}
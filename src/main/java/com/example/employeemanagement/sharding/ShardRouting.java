@@ -0,0 +1,30 @@
+package com.example.employeemanagement.sharding;
+
+/**
+ * The shard that connections and generated ids of the current thread belong to. Set only through
+ * {@link EmployeeShards#on}; threads that never set it use shard 0.
+ */
+public final class ShardRouting {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = ThreadLocal.withInitial(() -> 0);
+
+    private ShardRouting() {
+    }
+
+    public static int currentShard() {
+        return CURRENT_SHARD.get();
+    }
+
+    /**
+     * @return the previous shard, to be passed to {@link #restore}
+     */
+    static int enter(int shard) {
+        int previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        return previous;
+    }
+
+    static void restore(int previous) {
+        CURRENT_SHARD.set(previous);
+    }
+}
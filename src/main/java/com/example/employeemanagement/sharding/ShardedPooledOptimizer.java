@@ -0,0 +1,65 @@
+package com.example.employeemanagement.sharding;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.InitialValueAwareOptimizer;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.PooledOptimizer;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hibernate's pooled optimizer, kept once per shard. Each shard has its own sequences, so a block
+ * of values fetched from one shard must only be handed out to rows inserted into that shard.
+ * Selected with {@code hibernate.id.optimizer.pooled.preferred}; Hibernate creates it reflectively
+ * with the {@code (Class, int)} constructor.
+ */
+public class ShardedPooledOptimizer implements Optimizer, InitialValueAwareOptimizer {
+
+    private final Class<?> returnClass;
+    private final int incrementSize;
+    private final ConcurrentMap<Integer, PooledOptimizer> shards = new ConcurrentHashMap<>();
+    private volatile long initialValue = -1;
+
+    public ShardedPooledOptimizer(Class<?> returnClass, int incrementSize) {
+        this.returnClass = returnClass;
+        this.incrementSize = incrementSize;
+    }
+
+    @Override
+    public Serializable generate(AccessCallback callback) {
+        return current().generate(callback);
+    }
+
+    @Override
+    public IntegralDataTypeHolder getLastSourceValue() {
+        return current().getLastSourceValue();
+    }
+
+    @Override
+    public int getIncrementSize() {
+        return incrementSize;
+    }
+
+    @Override
+    public boolean applyIncrementSizeToSourceValues() {
+        return true;
+    }
+
+    @Override
+    public void injectInitialValue(long initialValue) {
+        this.initialValue = initialValue;
+    }
+
+    private PooledOptimizer current() {
+        return shards.computeIfAbsent(ShardRouting.currentShard(), shard -> {
+            PooledOptimizer optimizer = new PooledOptimizer(returnClass, incrementSize);
+            if (initialValue != -1) {
+                optimizer.injectInitialValue(initialValue);
+            }
+            return optimizer;
+        });
+    }
+}
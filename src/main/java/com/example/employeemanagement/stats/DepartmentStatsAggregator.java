@@ -0,0 +1,395 @@
+package com.example.employeemanagement.stats;
+
+import com.example.employeemanagement.dto.DepartmentStatsDTO;
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.repository.DepartmentSalarySummary;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeShards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-department salary aggregates kept in memory and updated from committed employee changes,
+ * so statistics cost O(departments) instead of a scan of the employee table.
+ * <p>
+ * Changes are applied after commit, so two transactions touching the same employee may be applied
+ * in a different order than they committed. A periodic reconciliation compares every department
+ * with a GROUP BY over the table and reloads departments that have drifted. With sharding every
+ * shard runs the GROUP BY at the same time; a department lives on one shard, so their rows do not overlap.
+ * <p>
+ * Changes are applied from the start, including while the initial load runs. Rows read while a
+ * department changes may or may not include the change, so a department is only compared and
+ * reloaded if no change to it was applied since before the database was read (its change count is
+ * the same) and none is between commit and being applied (it has no change in flight), and is
+ * otherwise read again.
+ */
+@Component
+public class DepartmentStatsAggregator implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentStatsAggregator.class);
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+    private static final double TOTAL_TOLERANCE = 1e-6;
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeShards shards;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, SalaryDistribution> departments = new HashMap<>();
+    // Changes applied per department, and changes committing but not yet applied; guarded by the lock
+    private final Map<String, Long> changeCounts = new HashMap<>();
+    private final Map<String, Integer> inFlight = new HashMap<>();
+    private volatile boolean loaded;
+    private Counter driftCounter;
+
+    public DepartmentStatsAggregator(EmployeeRepository employeeRepository, EmployeeShards shards) {
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+    }
+
+    public List<DepartmentStatsDTO> getAllStats() {
+        lock.readLock().lock();
+        try {
+            List<DepartmentStatsDTO> stats = new ArrayList<>(departments.size());
+            for (Map.Entry<String, SalaryDistribution> entry : new TreeMap<>(departments).entrySet()) {
+                stats.add(toStats(entry.getKey(), entry.getValue()));
+            }
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return null when the department has no employees
+     */
+    public DepartmentStatsDTO getStats(String department) {
+        lock.readLock().lock();
+        try {
+            SalaryDistribution distribution = departments.get(department);
+            return distribution == null ? null : toStats(department, distribution);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mark the departments of a change as in flight until its transaction completes; the change
+     * is applied after commit, before that
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmployeeChanging(EmployeeChangedEvent event) {
+        List<String> touched = departmentsOf(event);
+        lock.writeLock().lock();
+        try {
+            touched.forEach(department -> inFlight.merge(department, 1, Integer::sum));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.writeLock().lock();
+                try {
+                    touched.forEach(department -> inFlight.computeIfPresent(department,
+                            (key, count) -> count > 1 ? count - 1 : null));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (String department : departmentsOf(event)) {
+                changeCounts.merge(department, 1L, Long::sum);
+            }
+            switch (event.getType()) {
+                case CREATED:
+                    add(event.getCurrent());
+                    break;
+                case UPDATED:
+                    remove(event.getPrevious());
+                    add(event.getCurrent());
+                    break;
+                case DELETED:
+                    remove(event.getPrevious());
+                    break;
+                case BULK_UPDATED:
+                    applyBulkUpdate(event);
+                    break;
+                case BULK_DELETED:
+                    departments.remove(event.getDepartment());
+                    break;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Load every department. Departments that keep changing while they are read are finally
+     * loaded anyway, since an empty or partial aggregate would be further off than one that may
+     * miss a change; the next reconciliation compares them again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!reconcileWithRetries()) {
+            reconcile(true);
+        }
+        loaded = true;
+    }
+
+    /**
+     * Compare every department with the database and reload the ones that differ
+     */
+    @Scheduled(initialDelayString = "${employee.stats.reconcile-interval:PT5M}",
+            fixedDelayString = "${employee.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        if (!reconcileWithRetries()) {
+            log.debug("Departments changed during every reconciliation attempt; they are compared on the next run");
+        }
+    }
+
+    private boolean reconcileWithRetries() {
+        for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+            if (reconcile(false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param force whether to also reload departments that changed while they were read
+     * @return false if a department was skipped because it changed while it was read
+     */
+    private boolean reconcile(boolean force) {
+        Map<String, Long> counts = changeCounts();
+        boolean complete = true;
+        Set<String> present = new HashSet<>();
+        for (List<DepartmentSalarySummary> summaries
+                : shards.onEveryShard(shard -> employeeRepository.summarizeSalariesByDepartment())) {
+            for (DepartmentSalarySummary summary : summaries) {
+                String department = summary.getDepartment();
+                present.add(department);
+                Boolean matches = matches(summary, counts.get(department), force);
+                if (matches == null) {
+                    complete = false;
+                } else if (!matches) {
+                    complete &= reload(department, counts.get(department), force);
+                }
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            for (String department : new ArrayList<>(departments.keySet())) {
+                if (present.contains(department)) {
+                    continue;
+                }
+                if (force || isUnchanged(department, counts.get(department))) {
+                    departments.remove(department);
+                    drifted(department);
+                } else {
+                    complete = false;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return complete;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.stats.departments", this, aggregator -> aggregator.departmentCount())
+                .description("Departments with salary aggregates")
+                .register(registry);
+        driftCounter = Counter.builder("employee.stats.drift")
+                .description("Departments whose aggregates differed from the database on reconciliation")
+                .register(registry);
+    }
+
+    private int departmentCount() {
+        lock.readLock().lock();
+        try {
+            return departments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Long> changeCounts() {
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(changeCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the aggregates match the database, or null if the department changed since the
+     * summary's change count was taken
+     */
+    private Boolean matches(DepartmentSalarySummary summary, Long count, boolean force) {
+        lock.readLock().lock();
+        try {
+            if (!force && !isUnchanged(summary.getDepartment(), count)) {
+                return null;
+            }
+            SalaryDistribution distribution = departments.get(summary.getDepartment());
+            return distribution != null
+                    && distribution.size() == summary.getHeadcount()
+                    && distribution.min() == summary.getMinSalary()
+                    && distribution.max() == summary.getMaxSalary()
+                    && Math.abs(distribution.total() - summary.getTotalSalary())
+                    <= TOTAL_TOLERANCE * Math.max(1.0, Math.abs(summary.getTotalSalary()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the aggregates of a department with the database's, unless the department changed
+     * since {@code count} was taken
+     *
+     * @return whether the department was reloaded
+     */
+    private boolean reload(String department, Long count, boolean force) {
+        SalaryDistribution distribution = new SalaryDistribution(shards.on(shards.shardOf(department),
+                () -> employeeRepository.findSalariesByDepartmentOrderBySalary(department)));
+        lock.writeLock().lock();
+        try {
+            if (!force && !isUnchanged(department, count)) {
+                return false;
+            }
+            departments.put(department, distribution);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        drifted(department);
+        return true;
+    }
+
+    // Whether no change to the department was applied since its count was taken, nor is in flight
+    private boolean isUnchanged(String department, Long count) {
+        return Objects.equals(changeCounts.get(department), count) && !inFlight.containsKey(department);
+    }
+
+    private static List<String> departmentsOf(EmployeeChangedEvent event) {
+        List<String> touched = new ArrayList<>(2);
+        switch (event.getType()) {
+            case CREATED:
+                touched.add(event.getCurrent().getDepartment());
+                break;
+            case UPDATED:
+                touched.add(event.getPrevious().getDepartment());
+                touched.add(event.getCurrent().getDepartment());
+                break;
+            case DELETED:
+                touched.add(event.getPrevious().getDepartment());
+                break;
+            case BULK_UPDATED:
+                touched.add(event.getDepartment());
+                if (event.getBulkUpdate().getDepartment() != null) {
+                    touched.add(event.getBulkUpdate().getDepartment());
+                }
+                break;
+            case BULK_DELETED:
+                touched.add(event.getDepartment());
+                break;
+        }
+        return touched;
+    }
+
+    private void drifted(String department) {
+        if (!loaded) {
+            return;
+        }
+        log.warn("Salary aggregates of department '{}' drifted from the database and were reloaded", department);
+        if (driftCounter != null) {
+            driftCounter.increment();
+        }
+    }
+
+    private void add(EmployeeResponseDTO employee) {
+        departments.computeIfAbsent(employee.getDepartment(), d -> new SalaryDistribution()).add(employee.getSalary());
+    }
+
+    private void remove(EmployeeResponseDTO employee) {
+        if (employee == null) {
+            return;
+        }
+        SalaryDistribution distribution = departments.get(employee.getDepartment());
+        if (distribution == null || !distribution.remove(employee.getSalary())) {
+            log.debug("Salary of employee {} was not in the aggregates of '{}'", employee.getId(), employee.getDepartment());
+            return;
+        }
+        if (distribution.isEmpty()) {
+            departments.remove(employee.getDepartment());
+        }
+    }
+
+    private void applyBulkUpdate(EmployeeChangedEvent event) {
+        SalaryDistribution distribution = departments.get(event.getDepartment());
+        if (distribution == null) {
+            return;
+        }
+        distribution.update(event.getBulkUpdate().getSalary(), event.getBulkUpdate().salaryFactor());
+        String target = event.getBulkUpdate().getDepartment();
+        if (target != null && !target.equals(event.getDepartment())) {
+            departments.remove(event.getDepartment());
+            SalaryDistribution existing = departments.get(target);
+            if (existing == null) {
+                departments.put(target, distribution);
+            } else {
+                existing.addAll(distribution);
+            }
+        }
+    }
+
+    private DepartmentStatsDTO toStats(String department, SalaryDistribution distribution) {
+        DepartmentStatsDTO stats = new DepartmentStatsDTO();
+        stats.setDepartment(department);
+        stats.setHeadcount(distribution.size());
+        stats.setTotalSalary(distribution.total());
+        stats.setAverageSalary(distribution.total() / distribution.size());
+        stats.setMinSalary(distribution.min());
+        stats.setMaxSalary(distribution.max());
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + (int) percentile, distribution.percentile(percentile));
+        }
+        stats.setSalaryPercentiles(percentiles);
+        return stats;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.employeemanagement.stats;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Salaries of one department kept in a sorted array. Adding or removing a salary is a binary
+ * search plus an array shift within the department; headcount, total, min, max and any percentile
+ * are read in constant time. Not thread-safe.
+ */
+final class SalaryDistribution {
+
+    private double[] salaries;
+    private int size;
+    private double total;
+
+    SalaryDistribution() {
+        this.salaries = new double[16];
+    }
+
+    /**
+     * @param sortedSalaries salaries in ascending order
+     */
+    SalaryDistribution(List<Double> sortedSalaries) {
+        this.salaries = new double[Math.max(16, sortedSalaries.size())];
+        for (Double salary : sortedSalaries) {
+            salaries[size++] = salary;
+        }
+        recomputeTotal();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    double total() {
+        return total;
+    }
+
+    double min() {
+        return salaries[0];
+    }
+
+    double max() {
+        return salaries[size - 1];
+    }
+
+    /**
+     * Nearest-rank percentile, for 0 < percentile <= 100
+     */
+    double percentile(double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return salaries[Math.max(0, rank - 1)];
+    }
+
+    void add(double salary) {
+        int index = insertionPoint(salary);
+        if (size == salaries.length) {
+            salaries = Arrays.copyOf(salaries, size * 2);
+        }
+        System.arraycopy(salaries, index, salaries, index + 1, size - index);
+        salaries[index] = salary;
+        size++;
+        total += salary;
+    }
+
+    /**
+     * @return false when the salary is not present, which means the aggregate has drifted
+     */
+    boolean remove(double salary) {
+        int index = Arrays.binarySearch(salaries, 0, size, salary);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(salaries, index + 1, salaries, index, size - index - 1);
+        size--;
+        total -= salary;
+        return true;
+    }
+
+    /**
+     * Apply {@code coalesce(salary, current) * factor} to every salary, like the bulk UPDATE does.
+     * The factor is positive, so the salaries stay in order.
+     */
+    void update(Double salary, double factor) {
+        for (int i = 0; i < size; i++) {
+            salaries[i] = (salary != null ? salary : salaries[i]) * factor;
+        }
+        recomputeTotal();
+    }
+
+    /**
+     * Move every salary of another distribution into this one
+     */
+    void addAll(SalaryDistribution other) {
+        double[] merged = new double[Math.max(16, size + other.size)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size && j < other.size) {
+            merged[k++] = salaries[i] <= other.salaries[j] ? salaries[i++] : other.salaries[j++];
+        }
+        while (i < size) {
+            merged[k++] = salaries[i++];
+        }
+        while (j < other.size) {
+            merged[k++] = other.salaries[j++];
+        }
+        salaries = merged;
+        size = k;
+        recomputeTotal();
+    }
+
+    private int insertionPoint(double salary) {
+        int index = Arrays.binarySearch(salaries, 0, size, salary);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // Recomputing after bulk changes keeps rounding error from accumulating
+    private void recomputeTotal() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += salaries[i];
+        }
+        total = sum;
+    }
+}
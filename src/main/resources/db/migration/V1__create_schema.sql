@@ -0,0 +1,57 @@
+-- Schema as generated by Hibernate from the entities at the time versioned migrations were introduced
+
+create sequence employee_seq start with 1 increment by 50;
+create sequence employee_outbox_seq start with 1 increment by 50;
+create sequence import_row_error_seq start with 1 increment by 50;
+
+create table employees (
+    id bigint not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    department varchar(255) not null,
+    salary float(53) not null,
+    position varchar(255),
+    version bigint not null,
+    primary key (id),
+    constraint uk_employees_email unique (email)
+);
+
+create index idx_employees_last_name_id on employees (last_name, id);
+create index idx_employees_department_id on employees (department, id);
+create index idx_employees_department_last_name_id on employees (department, last_name, id);
+
+create table employee_outbox (
+    id bigint not null,
+    type varchar(20) not null check (type in ('CREATED','UPDATED','DELETED','BULK_UPDATED','BULK_DELETED')),
+    employee_id bigint,
+    department varchar(255),
+    payload clob not null,
+    occurred_at timestamp(6) with time zone not null,
+    published_offset bigint,
+    primary key (id),
+    constraint idx_employee_outbox_offset unique (published_offset)
+);
+
+create table import_job (
+    id bigint generated by default as identity,
+    format varchar(10) not null check (format in ('NDJSON','CSV')),
+    status varchar(10) not null check (status in ('RUNNING','COMPLETED','FAILED')),
+    committed_rows bigint not null,
+    imported_rows bigint not null,
+    failed_rows bigint not null,
+    error_message varchar(255),
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create table import_row_error (
+    id bigint not null,
+    job_id bigint not null,
+    row_number bigint not null,
+    message varchar(2000) not null,
+    primary key (id)
+);
+
+create index idx_import_row_error_job on import_row_error (job_id, row_number);
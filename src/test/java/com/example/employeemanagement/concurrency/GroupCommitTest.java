@@ -0,0 +1,129 @@
+package com.example.employeemanagement.concurrency;
+
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private GroupCommit<String, String> groupCommit;
+
+    @AfterEach
+    void tearDown() {
+        if (groupCommit != null) {
+            groupCommit.close();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void failedBatchIsRetriedOneRequestAtATime() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch allQueued = new CountDownLatch(1);
+        groupCommit = groupCommit(Duration.ofMillis(200), batch -> {
+            batchSizes.add(batch.size());
+            await(allQueued);
+            // Like a transaction: one bad value rolls back the whole batch
+            if (batch.stream().anyMatch(request -> request.getValue().equals("bad"))) {
+                throw new IllegalArgumentException("bad value");
+            }
+            batch.forEach(request -> request.complete(request.getValue().toUpperCase()));
+        });
+
+        CompletableFuture<String> first = submit("a");
+        CompletableFuture<String> bad = submit("bad");
+        CompletableFuture<String> last = submit("b");
+        allQueued.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(last.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(batchSizes).startsWith(3).endsWith(1, 1, 1);
+        assertThat(registry.get("employee.group.commit.single.retries").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void requestLeftOpenByTheWriterFails() {
+        groupCommit = groupCommit(Duration.ZERO, batch -> {
+        });
+
+        assertThatThrownBy(() -> groupCommit.submit("a"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("neither completed nor failed");
+    }
+
+    @Test
+    void closeRejectsQueuedRequests() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        groupCommit = groupCommit(Duration.ZERO, batch -> {
+            writing.countDown();
+            // Blocks until close() interrupts the writer thread
+            await(new CountDownLatch(1));
+        });
+
+        CompletableFuture<String> written = submit("a");
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread[] queuedCaller = new Thread[1];
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> {
+            queuedCaller[0] = Thread.currentThread();
+            return groupCommit.submit("b");
+        }, callers);
+        awaitParked(() -> queuedCaller[0]);
+
+        groupCommit.close();
+
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> written.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+        assertThatThrownBy(() -> groupCommit.submit("c"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private GroupCommit<String, String> groupCommit(Duration maxDelay,
+                                                    Consumer<List<GroupCommit.Request<String, String>>> writer) {
+        return new GroupCommit<>("test", maxDelay, 10, writer, registry);
+    }
+
+    private CompletableFuture<String> submit(String value) {
+        return CompletableFuture.supplyAsync(() -> groupCommit.submit(value), callers);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+    }
+
+    private static void awaitParked(Supplier<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.employeemanagement.concurrency;
+
+import com.example.employeemanagement.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch leading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicReference<Thread> leader = new AtomicReference<>();
+    private final AtomicReference<Thread> follower = new AtomicReference<>();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void followerSharesTheExceptionOfTheLeader() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5));
+        IllegalStateException failure = new IllegalStateException("load failed");
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> led = lead(flight, () -> {
+            loads.incrementAndGet();
+            awaitRelease();
+            throw failure;
+        });
+        CompletableFuture<String> followed = follow(flight, () -> {
+            loads.incrementAndGet();
+            return "second load";
+        });
+        release.countDown();
+
+        assertThatThrownBy(() -> led.get(5, TimeUnit.SECONDS)).hasCauseReference(failure);
+        assertThatThrownBy(() -> followed.get(5, TimeUnit.SECONDS)).hasCauseReference(failure);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void followerTakesOverWhenTheLeaderIsInterrupted() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5));
+
+        CompletableFuture<String> led = lead(flight, () -> {
+            awaitRelease();
+            return "abandoned load";
+        });
+        CompletableFuture<String> followed = follow(flight, () -> "own load");
+        leader.get().interrupt();
+
+        assertThat(followed.get(5, TimeUnit.SECONDS)).isEqualTo("own load");
+        assertThatThrownBy(() -> led.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void followerGivesUpAfterMaxWait() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(50));
+
+        CompletableFuture<String> led = lead(flight, () -> {
+            awaitRelease();
+            return "slow load";
+        });
+
+        assertThatThrownBy(() -> flight.execute("key", () -> "own load"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+        assertThat(led.get(5, TimeUnit.SECONDS)).isEqualTo("slow load");
+    }
+
+    // Starts a caller that becomes the leader and waits until its load is running
+    private CompletableFuture<String> lead(SingleFlight<String, String> flight, Supplier<String> loader)
+            throws InterruptedException {
+        CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> {
+            leader.set(Thread.currentThread());
+            return flight.execute("key", () -> {
+                leading.countDown();
+                return loader.get();
+            });
+        }, callers);
+        assertThat(leading.await(5, TimeUnit.SECONDS)).isTrue();
+        return result;
+    }
+
+    // Starts a caller for the same key and waits until it is blocked on the leader's load
+    private CompletableFuture<String> follow(SingleFlight<String, String> flight, Supplier<String> loader)
+            throws InterruptedException {
+        CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> {
+            follower.set(Thread.currentThread());
+            return flight.execute("key", loader);
+        }, callers);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (follower.get() == null || follower.get().getState() != Thread.State.TIMED_WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        return result;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.employeemanagement.json;
+
+import com.example.employeemanagement.dto.EmployeeResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void controlCharactersAreEscapedLikeJackson() throws IOException {
+        StringBuilder controls = new StringBuilder();
+        for (char c = 0; c < 0x20; c++) {
+            controls.append(c);
+        }
+        controls.append("\u007F\"\\/");
+        assertWritesLikeJackson(employee(controls.toString(), "tab\there", 1.5));
+    }
+
+    @Test
+    void surrogatesAreWrittenLikeJackson() throws IOException {
+        assertWritesLikeJackson(
+                employee("Emoji 😀", "𝐀𝐁", 1.5),
+                employee("lone \uD83D", "\uDE00 lone", 1.5),
+                employee("Zoë", "東京 €", 1.5));
+    }
+
+    @Test
+    void doublesAreWrittenLikeJackson() throws IOException {
+        double[] salaries = {0.0, -0.0, 1.0, 42.0, 9_999_999.0, 1.0E7, 1.0E21, -5.0, 0.5, 1234.56,
+                1.0E-5, 123_456_789.125, Double.MIN_VALUE, Double.MAX_VALUE,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        for (double salary : salaries) {
+            employees.add(employee("First", "Last", salary));
+        }
+        assertWritesLikeJackson(employees.toArray(new EmployeeResponseDTO[0]));
+    }
+
+    @Test
+    void missingValuesAreWrittenLikeJackson() throws IOException {
+        assertWritesLikeJackson(new EmployeeResponseDTO(), new EmployeeResponseDTO(-1L, null, null, null, null,
+                null, null));
+    }
+
+    private void assertWritesLikeJackson(EmployeeResponseDTO... employees) throws IOException {
+        List<EmployeeResponseDTO> list = List.of(employees);
+        byte[] expected = objectMapper.writeValueAsBytes(list);
+        // The smallest buffer flushes in the middle of fields and escapes
+        for (int bufferSize : new int[]{64, EmployeeJsonWriter.DEFAULT_BUFFER_SIZE}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            EmployeeJsonWriter writer = new EmployeeJsonWriter(bufferSize);
+            writer.open(out);
+            writer.writeArray(list);
+            writer.flush();
+            assertThat(out.toByteArray()).as("buffer size %d", bufferSize).isEqualTo(expected);
+        }
+    }
+
+    private static EmployeeResponseDTO employee(String firstName, String lastName, double salary) {
+        return new EmployeeResponseDTO(7L, firstName, lastName, "x@example.com", "R&D", salary, "Dev");
+    }
+}
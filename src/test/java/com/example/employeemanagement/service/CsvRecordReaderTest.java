@@ -0,0 +1,52 @@
+package com.example.employeemanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void quotedFieldKeepsLineBreaksAndSeparators() throws IOException {
+        assertThat(read("\"Line 1\nLine 2\",\"a,b\"\nnext,row\n"))
+                .containsExactly(new String[]{"Line 1\nLine 2", "a,b"}, new String[]{"next", "row"});
+    }
+
+    @Test
+    void crlfEndsRecordsButStaysInsideQuotes() throws IOException {
+        assertThat(read("a,b\r\n\"c\r\nd\",e\r\nf,g"))
+                .containsExactly(new String[]{"a", "b"}, new String[]{"c\r\nd", "e"}, new String[]{"f", "g"});
+    }
+
+    @Test
+    void doubledQuotesAreOneQuote() throws IOException {
+        assertThat(read("\"say \"\"hi\"\"\",\"\"\"\",\"\"\n"))
+                .containsExactly(new String[]{"say \"hi\"", "\"", ""});
+    }
+
+    @Test
+    void emptyFieldsAreKept() throws IOException {
+        assertThat(read(",a,\n")).containsExactly(new String[]{"", "a", ""});
+    }
+
+    @Test
+    void unterminatedQuoteFails() {
+        assertThatThrownBy(() -> read("\"open,field\n")).isInstanceOf(IOException.class);
+    }
+
+    private static List<String[]> read(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<String[]> records = new ArrayList<>();
+        String[] record;
+        while ((record = reader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}